@@ -0,0 +1,54 @@
+/*
+Non-preemptive priority scheduling with continuous aging.
+A waiting process's priority improves steadily, by one level per agingInterval time units of waiting,
+so at time t its effective priority is the fraction priority - (t - arrival) / agingInterval. Multiplying
+by agingInterval, process a beats process b exactly when
+    priority[a] * agingInterval + arrival[a] < priority[b] * agingInterval + arrival[b],
+and t cancels out. That stored key never changes while a process waits. No priorities are rewritten
+on dispatch and every operation stays O(log n). Only equal keys fall back to the lowest index.
+This is not stepwise aging that adds a whole level at the end of each full interval: with interval 10
+at t = 15, (priority 5, arrival 0) and (priority 4, arrival 9) are both at level 4 under whole steps,
+but their keys are 50 and 49, so the later arrival runs first.
+*/
+class AgingPriorityPolicy implements Scheduler {
+    private final int agingInterval;
+    private Workload w;
+    private long[] key;
+    private KeyedHeap ready;
+
+    AgingPriorityPolicy(int agingInterval) {
+        if (agingInterval <= 0) throw new IllegalArgumentException("Aging interval must be positive");
+        this.agingInterval = agingInterval;
+    }
+
+    public String name() {
+        return "Priority+aging(" + agingInterval + ")";
+    }
+
+    public void reset(Workload w) {
+        this.w = w;
+        key = new long[w.n];
+        ready = new KeyedHeap(key, w.n, w.sequence);
+    }
+
+    public void admit(int p) {
+        key[p] = (long) w.priority[p] * agingInterval + w.arrivalTime[p];
+        ready.push(p);
+    }
+
+    public boolean isEmpty() {
+        return ready.isEmpty();
+    }
+
+    public int dispatch(int now) {
+        return ready.pop();
+    }
+
+    public int slice(int p, int remaining, int now, int nextArrival) {
+        return remaining;
+    }
+
+    public void preempted(int p, int remaining) {
+        ready.push(p); // key unchanged: a process is never preempted under this policy
+    }
+}
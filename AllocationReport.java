@@ -0,0 +1,72 @@
+/*
+Allocation tables and block fragmentation listing shared by the memory allocation programs.
+Output goes through TableSink, so the same code produces the console table, CSV, binary rows or
+just the summary lines.
+*/
+class AllocationReport {
+    // Process, size, allocated block and what is left of that block; lastColumn names the final column.
+    static void printAllocationTable(TableSink out, String lastColumn, int[] processSize, int[] allocation,
+                                     int[] blockSize) {
+        out.blankLine().caption("Memory Allocation Table:");
+        out.text("Process").sep().text("Size").sep().text("Block Allocated").sep().text(lastColumn).endRow();
+        int allocated = 0;
+        for (int i = 0; i < processSize.length; i++) {
+            if (allocation[i] != -1) allocated++;
+            if (!out.writesRows()) continue;
+            out.text("P").number(i + 1).sep().number(processSize[i]).sep();
+            if (allocation[i] != -1) {
+                out.text("B").number(allocation[i] + 1).sep().pad().number(blockSize[allocation[i]]).endRow();
+            } else {
+                out.missing("Not Allocated").sep().missing("-").endRow();
+            }
+        }
+        if (!out.writesRows()) {
+            out.line("Allocated " + allocated + " of " + processSize.length + " processes");
+        }
+    }
+
+    // Remaining size of every block after allocation.
+    static void printBlockRemainders(TableSink out, int[] blockSize) {
+        out.blankLine().caption("Unused / Fragmented Memory in Blocks:");
+        long total = 0;
+        for (int i = 0; i < blockSize.length; i++) {
+            total += blockSize[i];
+            if (out.writesRows()) {
+                out.text("Block ").number(i + 1).sep(" -> Remaining Size: ").number(blockSize[i]).endRow();
+            }
+        }
+        if (!out.writesRows()) {
+            out.line("Remaining block memory = " + total);
+        }
+    }
+
+    // Process, size, placement address and the units reserved beyond the request, for the MemoryAllocator runs.
+    static void printPlacementTable(TableSink out, int[] processSize, int[] address, MemoryAllocator allocator) {
+        out.blankLine().caption("Memory Allocation Table:");
+        out.text("Process").sep().text("Size").sep().text("Address").sep().text("Internal Fragmentation").endRow();
+        int allocated = 0;
+        long internal = 0;
+        for (int i = 0; i < processSize.length; i++) {
+            int waste = allocator.reservedSize(processSize[i]) - processSize[i];
+            if (address[i] != -1) {
+                allocated++;
+                internal += waste;
+            }
+            if (!out.writesRows()) continue;
+            out.text("P").number(i + 1).sep().number(processSize[i]).sep();
+            if (address[i] != -1) {
+                out.number(address[i]).sep().number(waste).endRow();
+            } else {
+                out.missing("Not Allocated").sep().missing("-").endRow();
+            }
+        }
+        out.line("Allocated " + allocated + " of " + processSize.length + " processes");
+        out.line("Internal fragmentation = " + internal);
+    }
+
+    // Free space left in the address space after a MemoryAllocator run.
+    static void printFreeSpace(TableSink out, MemoryAllocator allocator) {
+        out.line("Free memory = " + allocator.freeMemory() + " in " + allocator.freeBlocks() + " holes, largest hole = "
+                + allocator.largestFreeBlock());
+    }
+}
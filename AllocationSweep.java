@@ -0,0 +1,115 @@
+/*
+Runs First Fit, Best Fit, Next Fit and Worst Fit in parallel on one set of block and process sizes
+and tabulates how many processes each placed and how much block memory was left over.
+The sizes are read once; every run gets its own copy of the block array (the engines shrink blocks in
+place) and its own allocation array, so the runs are independent fork/join tasks. Besides the full
+block list, each policy can be swept over block counts, using only the first k blocks of the input.
+*/
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+class AllocationSweep {
+    static class Row {
+        final FitAllocator.Policy policy;
+        final int blocks;
+        final int allocated;
+        final int processes;
+        final long leftover; // block memory not given to any process
+
+        Row(FitAllocator.Policy policy, int blocks, int allocated, int processes, long leftover) {
+            this.policy = policy;
+            this.blocks = blocks;
+            this.allocated = allocated;
+            this.processes = processes;
+            this.leftover = leftover;
+        }
+
+        double successRate() {
+            return processes == 0 ? 1 : (double) allocated / processes;
+        }
+    }
+
+    // Usage with an input file (see TraceFile.readMemory): java AllocationSweep input.bin [blockCount ...]
+    public static void main(String[] args) throws IOException {
+        int[][] input;
+        int[] blockCounts;
+        if (args.length > 0) {
+            input = TraceFile.readMemory(Paths.get(args[0]));
+            blockCounts = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                blockCounts[i - 1] = Integer.parseInt(args[i]);
+            }
+        } else {
+            Scanner sc = new Scanner(System.in);
+            input = FirstFit.readInput(sc);
+            System.out.print("\nEnter number of block counts to compare (0 for all blocks only): ");
+            blockCounts = new int[sc.nextInt()];
+            for (int i = 0; i < blockCounts.length; i++) {
+                System.out.print("Block count " + (i + 1) + ": ");
+                blockCounts[i] = sc.nextInt();
+            }
+        }
+        if (blockCounts.length == 0) blockCounts = new int[] {input[0].length};
+        TableSink out = TableSink.forStdout();
+        print(out, sweep(input[0], input[1], blockCounts, ForkJoinPool.commonPool()));
+        out.close();
+    }
+
+    // One row per policy and block count, policies varying fastest; the input arrays are not modified.
+    static List<Row> sweep(int[] blockSize, int[] processSize, int[] blockCounts, ForkJoinPool pool) {
+        List<Callable<Row>> tasks = new ArrayList<>();
+        for (int blocks : blockCounts) {
+            int m = Math.min(Math.max(blocks, 0), blockSize.length);
+            for (FitAllocator.Policy policy : FitAllocator.Policy.values()) {
+                tasks.add(() -> summarize(policy, Arrays.copyOf(blockSize, m), processSize));
+            }
+        }
+        return ParallelTasks.invokeAll(pool, tasks);
+    }
+
+    // Runs the indexed engine of the policy; blockSize is left holding the remainders.
+    static void allocate(FitAllocator.Policy policy, int[] blockSize, int[] processSize, int[] allocation) {
+        switch (policy) {
+            case FIRST:
+                FirstFit.allocate(blockSize, processSize, allocation);
+                break;
+            case BEST:
+                BestFit.allocate(blockSize, processSize, allocation);
+                break;
+            case NEXT:
+                NextFit.allocate(blockSize, processSize, allocation);
+                break;
+            default:
+                WorstFit.allocate(blockSize, processSize, allocation);
+                break;
+        }
+    }
+
+    static Row summarize(FitAllocator.Policy policy, int[] blockSize, int[] processSize) {
+        int[] allocation = new int[processSize.length];
+        allocate(policy, blockSize, processSize, allocation);
+        int allocated = 0;
+        for (int a : allocation) {
+            if (a != -1) allocated++;
+        }
+        long leftover = 0;
+        for (int b : blockSize) leftover += b;
+        return new Row(policy, blockSize.length, allocated, processSize.length, leftover);
+    }
+
+    static void print(TableSink out, List<Row> rows) {
+        out.blankLine().text("Policy").sep().text("Blocks").sep().text("Allocated").sep().text("Success Rate").sep()
+                .text("Leftover Memory").endRow();
+        for (int i = 0; out.writesRows() && i < rows.size(); i++) {
+            Row r = rows.get(i);
+            out.text(r.policy.displayName()).sep().number(r.blocks).sep().number(r.allocated).sep()
+                    .text(String.format("%.4f", r.successRate())).sep().number(r.leftover).endRow();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+A dynamic memory allocation trace: the size of the address space and a list of events, each either
+allocating a new block for request r or freeing the block of an earlier request.
+Requests are numbered 0, 1, 2, ... in the order of their allocate events. A free event carries size
+FREE; freeing a request whose allocation failed, or that was already freed, does nothing.
+*/
+import java.util.Scanner;
+
+class AllocationTrace {
+    static final int FREE = 0;
+
+    final int memorySize;
+    final int events;
+    final int[] request;
+    final int[] size;
+    final int requests;
+    final int[] requestSize; // size asked for by each request
+
+    AllocationTrace(int memorySize, int[] request, int[] size) {
+        this.memorySize = memorySize;
+        this.events = request.length;
+        this.request = request;
+        this.size = size;
+        int count = 0;
+        for (int e = 0; e < events; e++) {
+            if (size[e] != FREE) {
+                if (size[e] < 0 || request[e] != count) {
+                    throw new IllegalArgumentException("Event " + (e + 1) + " does not allocate request " + (count + 1));
+                }
+                count++;
+            } else if (request[e] < 0 || request[e] >= count) {
+                throw new IllegalArgumentException("Event " + (e + 1) + " frees unknown request " + (request[e] + 1));
+            }
+        }
+        this.requests = count;
+        this.requestSize = new int[count];
+        for (int e = 0; e < events; e++) {
+            if (size[e] != FREE) requestSize[request[e]] = size[e];
+        }
+    }
+
+    // Reads the memory size and the events: "A size" allocates the next process, "F p" frees process p.
+    static AllocationTrace read(Scanner sc) {
+        System.out.print("Enter total memory size: ");
+        int memorySize = sc.nextInt();
+        System.out.print("Enter number of events: ");
+        int n = sc.nextInt();
+        int[] request = new int[n];
+        int[] size = new int[n];
+        int next = 0;
+        for (int e = 0; e < n; e++) {
+            System.out.print("Event " + (e + 1) + " (A size to allocate, F p to free process p): ");
+            String op = sc.next();
+            if (op.equalsIgnoreCase("F")) {
+                request[e] = sc.nextInt() - 1;
+                size[e] = FREE;
+            } else {
+                request[e] = next++;
+                size[e] = sc.nextInt();
+            }
+        }
+        return new AllocationTrace(memorySize, request, size);
+    }
+}
@@ -0,0 +1,23 @@
+/*
+Arrival-ordered process index shared by the event-driven schedulers.
+Instead of rescanning every process on each tick to see who has arrived, the schedulers sort
+the process indices by arrival time once and admit them with a moving cursor.
+*/
+import java.util.Arrays;
+
+class ArrivalIndex {
+    // Returns process indices ordered by arrival time; equal arrivals keep input order.
+    static int[] order(int[] arrivalTime) {
+        int n = arrivalTime.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = LongHeap.pack(arrivalTime[i], i);
+        }
+        Arrays.sort(keys);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = LongHeap.index(keys[i]);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+Offline baseline for the fit policies: each policy run again over the processes in decreasing size.
+With the whole processSize array known up front, placing the largest processes first usually packs the
+blocks far better than handling them in arrival order. The processes are ordered with one primitive sort
+of packed (-size, index) keys and then fed to the same indexed engine, so a batch of 10^6 requests costs
+O(n log n + n log m). Each online policy is compared only with its own decreasing run, since Next Fit and
+Worst Fit keep placing into a block while First Fit and Best Fit give each block to one process. The gaps
+are how many processes and how much memory the online order falls short by; a negative gap means the
+arrival order happened to do better.
+*/
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+
+class BatchAllocation {
+    // With an input file argument (see TraceFile.readMemory) the sizes are read from it instead of the prompts.
+    public static void main(String[] args) throws IOException {
+        int[][] input = args.length > 0 ? TraceFile.readMemory(Paths.get(args[0])) : FirstFit.readInput(new Scanner(System.in));
+        int[] blockSize = input[0];
+        int[] processSize = input[1];
+        long totalMemory = 0;
+        for (int b : blockSize) totalMemory += b;
+
+        List<AllocationSweep.Row> online = AllocationSweep.sweep(blockSize, processSize, new int[] {blockSize.length},
+                ForkJoinPool.commonPool());
+        List<Callable<AllocationSweep.Row>> tasks = new ArrayList<>();
+        for (AllocationSweep.Row r : online) {
+            tasks.add(() -> summarizeDecreasing(r.policy, blockSize, processSize));
+        }
+        List<AllocationSweep.Row> decreasing = ParallelTasks.invokeAll(ForkJoinPool.commonPool(), tasks);
+
+        TableSink out = TableSink.forStdout();
+        out.blankLine().text("Policy").sep().text("Allocated").sep().text("Placed Memory").sep()
+                .text("Decreasing Allocated").sep().text("Decreasing Placed Memory").sep().text("Process Gap").sep()
+                .text("Memory Gap").endRow();
+        for (int i = 0; i < online.size(); i++) {
+            row(out, online.get(i), decreasing.get(i), totalMemory);
+        }
+        out.line(processSize.length + " processes, " + totalMemory + " memory in " + blockSize.length + " blocks");
+        out.close();
+    }
+
+    // Process indices by decreasing size; equal sizes keep input order.
+    static int[] decreasingOrder(int[] processSize) {
+        int n = processSize.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = LongHeap.pack(-processSize[i], i);
+        }
+        Arrays.sort(keys);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = LongHeap.index(keys[i]);
+        }
+        return order;
+    }
+
+    // Allocates the processes largest first with the policy's indexed engine; allocation[i] is still the block
+    // of process i in input order, and blockSize is left holding the remainders.
+    static void allocateDecreasing(FitAllocator.Policy policy, int[] blockSize, int[] processSize, int[] allocation) {
+        int n = processSize.length;
+        int[] order = decreasingOrder(processSize);
+        int[] sorted = new int[n];
+        for (int k = 0; k < n; k++) {
+            sorted[k] = processSize[order[k]];
+        }
+        int[] placed = new int[n];
+        AllocationSweep.allocate(policy, blockSize, sorted, placed);
+        for (int k = 0; k < n; k++) {
+            allocation[order[k]] = placed[k];
+        }
+    }
+
+    static AllocationSweep.Row summarizeDecreasing(FitAllocator.Policy policy, int[] blockSize, int[] processSize) {
+        int[] remaining = blockSize.clone();
+        int[] allocation = new int[processSize.length];
+        allocateDecreasing(policy, remaining, processSize, allocation);
+        int allocated = 0;
+        for (int a : allocation) {
+            if (a != -1) allocated++;
+        }
+        long leftover = 0;
+        for (int b : remaining) leftover += b;
+        return new AllocationSweep.Row(policy, remaining.length, allocated, processSize.length, leftover);
+    }
+
+    private static void row(TableSink out, AllocationSweep.Row r, AllocationSweep.Row baseline, long totalMemory) {
+        out.text(r.policy.displayName()).sep().number(r.allocated).sep().number(totalMemory - r.leftover).sep()
+                .number(baseline.allocated).sep().number(totalMemory - baseline.leftover).sep()
+                .number(baseline.allocated - r.allocated).sep().number(r.leftover - baseline.leftover).endRow();
+    }
+}
@@ -4,16 +4,70 @@ Write a program to simulate Best Fit memory allocation strategy.
 The program should allocate each process to the smallest available block that can hold it.
 Display the final allocation and show internal fragmentation if any.
 */
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.*;
 
 public class BestFit {
-    public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
+    // With an input file argument (see TraceFile.readMemory) the sizes are read from it instead of the prompts.
+    public static void main(String[] args) throws IOException {
+        int[][] input = args.length > 0 ? TraceFile.readMemory(Paths.get(args[0])) : readInput(new Scanner(System.in));
+        int[] blockSize = input[0];
+        int[] processSize = input[1];
+        int n = processSize.length;
+        int[] allocation = new int[n];
+
+        allocate(blockSize, processSize, allocation);
+
+        
+        TableSink out = TableSink.forStdout();
+        AllocationReport.printAllocationTable(out, "Remaining Block Size", processSize, allocation, blockSize);
+        out.close();
+    }
+
+    // Indexed engine: the blocks are sorted once on packed (size, index) keys, so the best fit is the first
+    // unused key at or above (processSize, 0) - the smallest block that fits, lowest index among equal
+    // sizes, as a scan over every block would pick. A block takes at most one process, so used keys are
+    // skipped with a path-compressed "next unused" link instead of being re-keyed, O(m log m + n log m).
+    static void allocate(int[] blockSize, int[] processSize, int[] allocation) {
+        int m = blockSize.length;
+        long[] key = new long[m];
+        for (int j = 0; j < m; j++) {
+            key[j] = LongHeap.pack(blockSize[j], j);
+        }
+        Arrays.sort(key);
+        int[] nextUnused = new int[m + 1];
+        for (int k = 0; k <= m; k++) nextUnused[k] = k;
+        for (int i = 0; i < processSize.length; i++) {
+            int k = Arrays.binarySearch(key, LongHeap.pack(processSize[i], 0));
+            if (k < 0) k = -k - 1;
+            k = findUnused(nextUnused, k);
+            if (k == m) {
+                allocation[i] = -1;
+                continue;
+            }
+            int j = LongHeap.index(key[k]);
+            nextUnused[k] = k + 1;
+            allocation[i] = j;
+            blockSize[j] -= processSize[i];
+        }
+    }
+
+    private static int findUnused(int[] nextUnused, int k) {
+        int root = k;
+        while (nextUnused[root] != root) root = nextUnused[root];
+        while (nextUnused[k] != root) {
+            int next = nextUnused[k];
+            nextUnused[k] = root;
+            k = next;
+        }
+        return root;
+    }
 
+    static int[][] readInput(Scanner sc) {
         System.out.print("Enter number of memory blocks: ");
         int m = sc.nextInt();
         int[] blockSize = new int[m];
-        boolean[] allocatedBlock = new boolean[m];
 
         System.out.println("Enter size of each memory block:");
         for (int i = 0; i < m; i++) {
@@ -24,42 +78,12 @@ public class BestFit {
         System.out.print("\nEnter number of processes: ");
         int n = sc.nextInt();
         int[] processSize = new int[n];
-        int[] allocation = new int[n];
-        Arrays.fill(allocation, -1);
 
         System.out.println("Enter size of each process:");
         for (int i = 0; i < n; i++) {
             System.out.print("Process " + (i + 1) + ": ");
             processSize[i] = sc.nextInt();
         }
-
-        
-        for (int i = 0; i < n; i++) {
-            int bestIndex = -1;
-            for (int j = 0; j < m; j++) {
-                if (!allocatedBlock[j] && blockSize[j] >= processSize[i]) {
-                    if (bestIndex == -1 || blockSize[j] < blockSize[bestIndex]) {
-                        bestIndex = j;
-                    }
-                }
-            }
-            if (bestIndex != -1) {
-                allocation[i] = bestIndex;
-                allocatedBlock[bestIndex] = true;
-                blockSize[bestIndex] -= processSize[i];
-            }
-        }
-
-        
-        System.out.println("\nMemory Allocation Table:");
-        System.out.println("Process\tSize\tBlock Allocated\tInternal Fragmentation");
-        for (int i = 0; i < n; i++) {
-            if (allocation[i] != -1) {
-                System.out.println("P" + (i + 1) + "\t" + processSize[i] + "\tB" + (allocation[i] + 1) +
-                        "\t\t" + blockSize[allocation[i]]);
-            } else {
-                System.out.println("P" + (i + 1) + "\t" + processSize[i] + "\tNot Allocated\t-");
-            }
-        }
+        return new int[][] {blockSize, processSize};
     }
 }
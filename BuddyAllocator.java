@@ -0,0 +1,90 @@
+/*
+Binary buddy allocator. Every block is a power of two in size and aligned to its size; a request
+gets the smallest such block that holds it, split off a larger free block by halving, and a freed
+block is merged with its buddy (address ^ size) for as long as the buddy is free too. Memory that is
+not a power of two is handed out as its binary decomposition, largest block first.
+Free blocks are kept in one LongTreap keyed by packed (order, address), so the smallest order that
+can serve a request and a block's buddy are both O(log n) lookups; allocate and free touch at most
+one key per order.
+*/
+class BuddyAllocator implements MemoryAllocator {
+    private static final int MAX_ORDER = 30;
+
+    private final LongTreap free = new LongTreap(1024);
+    private long freeMemory;
+
+    public String name() {
+        return "Buddy";
+    }
+
+    public void reset(int memorySize) {
+        free.clear();
+        freeMemory = 0;
+        int address = 0;
+        for (int order = MAX_ORDER; order >= 0; order--) {
+            if ((memorySize >> order & 1) != 0) {
+                addBlock(order, address);
+                address += 1 << order;
+            }
+        }
+    }
+
+    public int allocate(int size) {
+        int order = order(size);
+        if (order > MAX_ORDER) return -1;
+        long found = free.ceiling(LongHeap.pack(order, 0));
+        if (found == LongTreap.NONE) return -1;
+        int k = LongHeap.key(found), address = LongHeap.index(found);
+        removeBlock(k, address);
+        while (k > order) {
+            k--;
+            addBlock(k, address + (1 << k));
+        }
+        return address;
+    }
+
+    public void free(int address, int size) {
+        int order = order(size);
+        while (order < MAX_ORDER) {
+            int buddy = address ^ (1 << order);
+            if (free.get(LongHeap.pack(order, buddy)) == Integer.MIN_VALUE) break;
+            removeBlock(order, buddy);
+            address = Math.min(address, buddy);
+            order++;
+        }
+        addBlock(order, address);
+    }
+
+    public int reservedSize(int size) {
+        int order = order(size);
+        return order > MAX_ORDER ? size : 1 << order;
+    }
+
+    public long freeMemory() {
+        return freeMemory;
+    }
+
+    public int largestFreeBlock() {
+        long largest = free.floor(Long.MAX_VALUE);
+        return largest == LongTreap.NONE ? 0 : 1 << LongHeap.key(largest);
+    }
+
+    public int freeBlocks() {
+        return free.size();
+    }
+
+    // Smallest order whose block holds size units.
+    private static int order(int size) {
+        return size <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(size - 1);
+    }
+
+    private void addBlock(int order, int address) {
+        free.insert(LongHeap.pack(order, address), 0);
+        freeMemory += 1 << order;
+    }
+
+    private void removeBlock(int order, int address) {
+        free.remove(LongHeap.pack(order, address));
+        freeMemory -= 1 << order;
+    }
+}
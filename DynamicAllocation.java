@@ -0,0 +1,69 @@
+/*
+Dynamic memory allocation with allocate and free events over one contiguous block of memory.
+Unlike FirstFit, BestFit, NextFit and WorstFit, where memory is only ever handed out, processes here
+release their memory again: an allocation splits a free hole and a release merges the freed block
+with the free holes next to it, so fragmentation builds up the way it does in a long-running system.
+The allocator is chosen with -Dfit.policy=first|best|next|worst|buddy|segregated (default first), and
+-Dfrag.interval=K adds a table of fragmentation sampled every K events (see FragmentationRecorder).
+*/
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Scanner;
+
+class DynamicAllocation {
+    // With a trace file argument (see TraceFile.readEvents) the events are read from it instead of the prompts.
+    public static void main(String[] args) throws IOException {
+        AllocationTrace t = args.length > 0 ? TraceFile.readEvents(Paths.get(args[0])) : AllocationTrace.read(new Scanner(System.in));
+        MemoryAllocator allocator = create(System.getProperty("fit.policy", "first"));
+        int[] address = new int[t.requests];
+        int interval = Integer.getInteger("frag.interval", 0);
+        FragmentationRecorder fragmentation = interval > 0 ? new FragmentationRecorder(interval, t.events) : null;
+        run(t, allocator, address, fragmentation);
+
+        TableSink out = TableSink.forStdout();
+        out.blankLine().caption(allocator.name() + ", memory size " + t.memorySize + ", " + t.events + " events");
+        AllocationReport.printPlacementTable(out, t.requestSize, address, allocator);
+        AllocationReport.printFreeSpace(out, allocator);
+        if (fragmentation != null) fragmentation.print(out);
+        out.close();
+    }
+
+    static MemoryAllocator create(String policy) {
+        switch (policy.toLowerCase()) {
+            case "buddy":
+                return new BuddyAllocator();
+            case "segregated":
+                return new SegregatedFitAllocator();
+            default:
+                return new FitAllocator(FitAllocator.Policy.valueOf(policy.toUpperCase()));
+        }
+    }
+
+    // Replays the trace from empty memory; address[r] is where request r was placed, or -1 if it did not fit.
+    // Returns the number of failed allocations.
+    static int run(AllocationTrace t, MemoryAllocator allocator, int[] address) {
+        return run(t, allocator, address, null);
+    }
+
+    // As above, also sampling fragmentation into the recorder when it is not null.
+    static int run(AllocationTrace t, MemoryAllocator allocator, int[] address, FragmentationRecorder fragmentation) {
+        allocator.reset(t.memorySize);
+        boolean[] live = new boolean[t.requests];
+        int failures = 0;
+        for (int e = 0; e < t.events; e++) {
+            int r = t.request[e];
+            if (t.size[e] != AllocationTrace.FREE) {
+                address[r] = allocator.allocate(t.size[e]);
+                if (address[r] == -1) failures++;
+                else live[r] = true;
+                if (fragmentation != null) fragmentation.allocation(address[r] == -1);
+            } else if (live[r]) {
+                allocator.free(address[r], t.requestSize[r]);
+                live[r] = false;
+            }
+            if (fragmentation != null) fragmentation.endEvent(allocator);
+        }
+        if (fragmentation != null) fragmentation.finish(allocator);
+        return failures;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+First Come First Serve as a Scheduler policy: non-preemptive, ready processes ordered by
+(arrival time, index), so equal arrival times run in input order. fcfs runs it through SimulationKernel.
+*/
+class FcfsPolicy implements Scheduler {
+    private Workload w;
+    private LongHeap ready;
+
+    public String name() {
+        return "FCFS";
+    }
+
+    public void reset(Workload w) {
+        this.w = w;
+        ready = new LongHeap(w.n, w.sequence);
+    }
+
+    public void admit(int p) {
+        ready.push(LongHeap.pack(w.arrivalTime[p], p));
+    }
+
+    public boolean isEmpty() {
+        return ready.isEmpty();
+    }
+
+    public int dispatch(int now) {
+        return LongHeap.index(ready.pop());
+    }
+
+    public int slice(int p, int remaining, int now, int nextArrival) {
+        return remaining;
+    }
+
+    public void preempted(int p, int remaining) {
+        admit(p);
+    }
+}
@@ -4,16 +4,49 @@ Write a program to simulate First Fit memory allocation strategy.
 The program should allocate each process to the first available memory block that is large enough to accommodate it.
 Display the memory allocation table and identify any unused or fragmented memory.
 */
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.*;
 
 public class FirstFit {
-    public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
+    // With an input file argument (see TraceFile.readMemory) the sizes are read from it instead of the prompts.
+    public static void main(String[] args) throws IOException {
+        int[][] input = args.length > 0 ? TraceFile.readMemory(Paths.get(args[0])) : readInput(new Scanner(System.in));
+        int[] blockSize = input[0];
+        int[] processSize = input[1];
+        int n = processSize.length;
+        int[] allocation = new int[n];
 
+        allocate(blockSize, processSize, allocation);
+
+      
+        TableSink out = TableSink.forStdout();
+        AllocationReport.printAllocationTable(out, "Remaining Block Size", processSize, allocation, blockSize);
+
+        
+        AllocationReport.printBlockRemainders(out, blockSize);
+        out.close();
+    }
+
+    // Indexed engine: a max segment tree over the sizes of the blocks still free finds the lowest-indexed
+    // block that fits in O(log m). A block takes at most one process, so once used its leaf is set below
+    // any size and the allocation is the same as scanning the blocks from index 0, O(m + n log m).
+    static void allocate(int[] blockSize, int[] processSize, int[] allocation) {
+        MaxSegmentTree free = new MaxSegmentTree(blockSize);
+        for (int i = 0; i < processSize.length; i++) {
+            int j = free.firstAtLeast(processSize[i]);
+            allocation[i] = j;
+            if (j != -1) {
+                free.set(j, Integer.MIN_VALUE);
+                blockSize[j] -= processSize[i];
+            }
+        }
+    }
+
+    static int[][] readInput(Scanner sc) {
         System.out.print("Enter number of memory blocks: ");
         int m = sc.nextInt();
         int[] blockSize = new int[m];
-        boolean[] allocatedBlock = new boolean[m];
 
         System.out.println("Enter size of each memory block:");
         for (int i = 0; i < m; i++) {
@@ -24,43 +57,12 @@ public class FirstFit {
         System.out.print("\nEnter number of processes: ");
         int n = sc.nextInt();
         int[] processSize = new int[n];
-        int[] allocation = new int[n]; 
-        Arrays.fill(allocation, -1);
 
         System.out.println("Enter size of each process:");
         for (int i = 0; i < n; i++) {
             System.out.print("Process " + (i + 1) + ": ");
             processSize[i] = sc.nextInt();
         }
-
-        
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < m; j++) {
-                if (!allocatedBlock[j] && blockSize[j] >= processSize[i]) {
-                    allocation[i] = j;
-                    allocatedBlock[j] = true;
-                    blockSize[j] -= processSize[i];
-                    break;
-                }
-            }
-        }
-
-      
-        System.out.println("\nMemory Allocation Table:");
-        System.out.println("Process\tSize\tBlock Allocated\tRemaining Block Size");
-        for (int i = 0; i < n; i++) {
-            if (allocation[i] != -1) {
-                System.out.println("P" + (i + 1) + "\t" + processSize[i] + "\tB" + (allocation[i] + 1) +
-                        "\t\t" + blockSize[allocation[i]]);
-            } else {
-                System.out.println("P" + (i + 1) + "\t" + processSize[i] + "\tNot Allocated\t-");
-            }
-        }
-
-        
-        System.out.println("\nUnused / Fragmented Memory in Blocks:");
-        for (int i = 0; i < m; i++) {
-            System.out.println("Block " + (i + 1) + " -> Remaining Size: " + blockSize[i]);
-        }
+        return new int[][] {blockSize, processSize};
     }
 }
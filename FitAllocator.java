@@ -0,0 +1,134 @@
+/*
+First, best, next and worst fit over a contiguous address space with splitting and coalescing.
+Holes are kept by address, with the largest hole length of each subtree, and for best fit also by
+packed (length, address). A request is placed at the start of the chosen hole and the rest of the
+hole stays free; a released block is merged with the holes directly before and after it. Shrinking
+or growing a hole does not move it in address order, so it is updated in place. Every operation is
+O(log h) for h holes.
+  FIRST - lowest-addressed hole that fits;
+  NEXT  - first hole that fits at or after the end of the previous allocation, wrapping to address 0;
+  BEST  - smallest hole that fits, lowest address among equal lengths;
+  WORST - largest hole, lowest address among equal lengths.
+*/
+class FitAllocator implements MemoryAllocator {
+    enum Policy {
+        FIRST("First Fit"), BEST("Best Fit"), NEXT("Next Fit"), WORST("Worst Fit");
+
+        private final String displayName;
+
+        Policy(String displayName) {
+            this.displayName = displayName;
+        }
+
+        String displayName() {
+            return displayName;
+        }
+    }
+
+    private final Policy policy;
+    private final LongTreap byAddress = new LongTreap(1024);
+    private final LongTreap byLength; // null unless BEST
+    private long freeMemory;
+    private int nextFit;
+
+    FitAllocator(Policy policy) {
+        this.policy = policy;
+        this.byLength = policy == Policy.BEST ? new LongTreap(1024) : null;
+    }
+
+    public String name() {
+        return policy.displayName();
+    }
+
+    public void reset(int memorySize) {
+        byAddress.clear();
+        if (byLength != null) byLength.clear();
+        freeMemory = 0;
+        nextFit = 0;
+        if (memorySize > 0) addHole(0, memorySize);
+    }
+
+    public int allocate(int size) {
+        if (size > byAddress.maxValue()) return -1;
+        int address;
+        switch (policy) {
+            case FIRST:
+                address = (int) byAddress.firstAtLeast(0, size);
+                break;
+            case NEXT:
+                long found = byAddress.firstAtLeast(nextFit, size);
+                address = (int) (found != LongTreap.NONE ? found : byAddress.firstAtLeast(0, size));
+                break;
+            case BEST:
+                address = LongHeap.index(byLength.ceiling(LongHeap.pack(size, 0)));
+                break;
+            default:
+                address = (int) byAddress.firstAtLeast(0, byAddress.maxValue());
+                break;
+        }
+        int length = byAddress.get(address);
+        if (length > size) {
+            resizeHole(address, length, address + size, length - size);
+        } else {
+            removeHole(address, length);
+        }
+        nextFit = address + size;
+        return address;
+    }
+
+    public void free(int address, int size) {
+        int end = address + size;
+        int after = byAddress.get(end);
+        long before = byAddress.floor(address - 1L);
+        int beforeLength = before != LongTreap.NONE ? byAddress.get(before) : 0;
+        if (before != LongTreap.NONE && before + beforeLength == address) {
+            if (after != Integer.MIN_VALUE) {
+                removeHole(end, after);
+                size += after;
+            }
+            resizeHole((int) before, beforeLength, (int) before, beforeLength + size);
+        } else if (after != Integer.MIN_VALUE) {
+            resizeHole(end, after, address, size + after);
+        } else {
+            addHole(address, size);
+        }
+    }
+
+    public int reservedSize(int size) {
+        return size;
+    }
+
+    public long freeMemory() {
+        return freeMemory;
+    }
+
+    public int largestFreeBlock() {
+        return Math.max(byAddress.maxValue(), 0);
+    }
+
+    public int freeBlocks() {
+        return byAddress.size();
+    }
+
+    private void addHole(int address, int length) {
+        byAddress.insert(address, length);
+        if (byLength != null) byLength.insert(LongHeap.pack(length, address), 0);
+        freeMemory += length;
+    }
+
+    private void removeHole(int address, int length) {
+        byAddress.remove(address);
+        if (byLength != null) byLength.remove(LongHeap.pack(length, address));
+        freeMemory -= length;
+    }
+
+    // The hole at address becomes [newAddress, newAddress + newLength) without passing any other hole.
+    private void resizeHole(int address, int length, int newAddress, int newLength) {
+        byAddress.replace(address, newAddress, newLength);
+        if (byLength != null) {
+            byLength.remove(LongHeap.pack(length, address));
+            byLength.insert(LongHeap.pack(newLength, newAddress), 0);
+        }
+        freeMemory += newLength - length;
+    }
+}
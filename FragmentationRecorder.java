@@ -0,0 +1,118 @@
+/*
+Fragmentation of a MemoryAllocator sampled every interval events of a DynamicAllocation run.
+The run reports each event through two counters; every interval events one sample is taken from the
+allocator into preallocated parallel arrays, so the per-event cost is a decrement and nothing is
+allocated. Each sample holds:
+  free memory and the largest free hole;
+  external fragmentation, 1 - largest hole / free memory: the share of free memory that the largest
+  possible request cannot use;
+  failure rate, failed allocations / allocations among the events since the previous sample.
+*/
+import java.util.Arrays;
+
+class FragmentationRecorder {
+    final int interval;
+    private long[] event;
+    private long[] freeMemory;
+    private int[] largestHole;
+    private int[] holes;
+    private int[] allocations;
+    private int[] failures;
+    private int samples;
+    private long events;
+    private int countdown;
+    private int intervalAllocations, intervalFailures;
+
+    // expectedEvents sizes the sample arrays; runs longer than that grow them once per doubling.
+    FragmentationRecorder(int interval, long expectedEvents) {
+        if (interval <= 0) throw new IllegalArgumentException("Sampling interval must be positive: " + interval);
+        this.interval = interval;
+        int capacity = (int) Math.min(expectedEvents / interval + 2, Integer.MAX_VALUE - 8);
+        event = new long[capacity];
+        freeMemory = new long[capacity];
+        largestHole = new int[capacity];
+        holes = new int[capacity];
+        allocations = new int[capacity];
+        failures = new int[capacity];
+        countdown = interval;
+    }
+
+    void allocation(boolean failed) {
+        intervalAllocations++;
+        if (failed) intervalFailures++;
+    }
+
+    void endEvent(MemoryAllocator allocator) {
+        events++;
+        if (--countdown == 0) {
+            sample(allocator);
+        }
+    }
+
+    // Takes a last sample for the events after the final full interval, if there are any.
+    void finish(MemoryAllocator allocator) {
+        if (countdown != interval) {
+            sample(allocator);
+        }
+    }
+
+    int samples() {
+        return samples;
+    }
+
+    long event(int i) {
+        return event[i];
+    }
+
+    long freeMemory(int i) {
+        return freeMemory[i];
+    }
+
+    int largestHole(int i) {
+        return largestHole[i];
+    }
+
+    int holes(int i) {
+        return holes[i];
+    }
+
+    double externalFragmentation(int i) {
+        return freeMemory[i] == 0 ? 0 : 1 - (double) largestHole[i] / freeMemory[i];
+    }
+
+    double failureRate(int i) {
+        return allocations[i] == 0 ? 0 : (double) failures[i] / allocations[i];
+    }
+
+    void print(TableSink out) {
+        out.blankLine().caption("Fragmentation every " + interval + " events:");
+        out.text("Event").sep().text("Free").sep().text("Largest Hole").sep().text("Holes").sep()
+                .text("External Fragmentation").sep().text("Failure Rate").endRow();
+        for (int i = 0; out.writesRows() && i < samples; i++) {
+            out.number(event[i]).sep().number(freeMemory[i]).sep().number(largestHole[i]).sep().number(holes[i]).sep()
+                    .text(String.format("%.4f", externalFragmentation(i))).sep()
+                    .text(String.format("%.4f", failureRate(i))).endRow();
+        }
+    }
+
+    private void sample(MemoryAllocator allocator) {
+        if (samples == event.length) {
+            int capacity = samples * 2;
+            event = Arrays.copyOf(event, capacity);
+            freeMemory = Arrays.copyOf(freeMemory, capacity);
+            largestHole = Arrays.copyOf(largestHole, capacity);
+            holes = Arrays.copyOf(holes, capacity);
+            allocations = Arrays.copyOf(allocations, capacity);
+            failures = Arrays.copyOf(failures, capacity);
+        }
+        event[samples] = events;
+        freeMemory[samples] = allocator.freeMemory();
+        largestHole[samples] = allocator.largestFreeBlock();
+        holes[samples] = allocator.freeBlocks();
+        allocations[samples] = intervalAllocations;
+        failures[samples] = intervalFailures;
+        samples++;
+        intervalAllocations = intervalFailures = 0;
+        countdown = interval;
+    }
+}
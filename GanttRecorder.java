@@ -0,0 +1,92 @@
+/*
+Run-length encoded Gantt chart.
+Each run is (process index, start, end) kept in three growable int arrays, so recording a slice never
+allocates an object. A slice that continues the previous run of the same process (same index, starting
+where that run ended) extends it instead of adding a new run. The chart can be read back in memory
+through process(i)/start(i)/end(i), printed through a TableSink or exported as a binary file
+(sjf and RoundRobin do so when run with -Dgantt.file=path).
+*/
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+class GanttRecorder {
+    static final int MAGIC = 0x544e4147; // "GANT"
+
+    private int[] process = new int[1024];
+    private int[] start = new int[1024];
+    private int[] end = new int[1024];
+    private int runs;
+
+    void record(int p, int from, int to) {
+        if (runs > 0 && process[runs - 1] == p && end[runs - 1] == from) {
+            end[runs - 1] = to;
+            return;
+        }
+        if (runs == process.length) {
+            int capacity = runs + (runs >> 1);
+            process = Arrays.copyOf(process, capacity);
+            start = Arrays.copyOf(start, capacity);
+            end = Arrays.copyOf(end, capacity);
+        }
+        process[runs] = p;
+        start[runs] = from;
+        end[runs] = to;
+        runs++;
+    }
+
+    int size() {
+        return runs;
+    }
+
+    int process(int i) {
+        return process[i];
+    }
+
+    int start(int i) {
+        return start[i];
+    }
+
+    int end(int i) {
+        return end[i];
+    }
+
+    void clear() {
+        runs = 0;
+    }
+
+    // Console layout is "P1 | P2 | ..." on one line; csv and binary get one (pid, start, end) row per run.
+    void print(TableSink out, int[] processId) {
+        if (!out.writesRows()) return;
+        if (out.isConsole()) {
+            for (int i = 0; i < runs; i++) {
+                out.text("P").number(processId[process[i]]).text(" | ");
+            }
+            out.endRow();
+            return;
+        }
+        out.text("PID").sep().text("Start").sep().text("End").endRow();
+        for (int i = 0; i < runs; i++) {
+            out.number(processId[process[i]]).sep().number(start[i]).sep().number(end[i]).endRow();
+        }
+    }
+
+    // Writes MAGIC, the run count and then (pid, start, end) per run as little-endian ints.
+    void write(Path path, int[] processId) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            ByteBuffer rec = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+            rec.putInt(MAGIC).putInt(runs);
+            out.write(rec.array(), 0, 8);
+            for (int i = 0; i < runs; i++) {
+                rec.clear();
+                rec.putInt(processId[process[i]]).putInt(start[i]).putInt(end[i]);
+                out.write(rec.array());
+            }
+        }
+    }
+}
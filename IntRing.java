@@ -0,0 +1,46 @@
+/*
+Growable FIFO ring buffer of primitive ints.
+Used as the ready queue of the Round Robin engine in place of LinkedList<Integer>, so queueing
+a process index costs an array store instead of a boxed Integer and a list node.
+*/
+class IntRing {
+    private int[] items;
+    private int head;
+    private int size;
+
+    IntRing(int capacity) {
+        items = new int[Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1)];
+    }
+
+    void add(int value) {
+        if (size == items.length) {
+            int[] grown = new int[items.length * 2];
+            for (int i = 0; i < size; i++) {
+                grown[i] = items[(head + i) & (items.length - 1)];
+            }
+            items = grown;
+            head = 0;
+        }
+        items[(head + size++) & (items.length - 1)] = value;
+    }
+
+    int poll() {
+        int value = items[head];
+        head = (head + 1) & (items.length - 1);
+        size--;
+        return value;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+Binary min-heap of process indices ordered by a caller-owned long key, ties going to the lowest index
+or, given a sequence array, to the smallest sequence number.
+Used where a key does not fit the 32-bit half of a LongHeap entry, such as the aged priorities of
+AgingPriorityPolicy. The key of a queued index must not change while it is in the heap.
+*/
+class KeyedHeap {
+    private final long[] key;
+    private final long[] sequence;
+    private int[] heap;
+    private int size;
+
+    KeyedHeap(long[] key, int capacity) {
+        this(key, capacity, null);
+    }
+
+    KeyedHeap(long[] key, int capacity, long[] sequence) {
+        this.key = key;
+        this.sequence = sequence;
+        this.heap = new int[Math.max(capacity, 1)];
+    }
+
+    void push(int p) {
+        if (size == heap.length) {
+            heap = java.util.Arrays.copyOf(heap, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(p, heap[parent])) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = p;
+    }
+
+    int peek() {
+        return heap[0];
+    }
+
+    int pop() {
+        int top = heap[0];
+        int last = heap[--size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && less(heap[child + 1], heap[child])) child++;
+            if (!less(heap[child], last)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private boolean less(int a, int b) {
+        if (key[a] != key[b]) return key[a] < key[b];
+        return sequence == null ? a < b : sequence[a] < sequence[b];
+    }
+}
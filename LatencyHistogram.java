@@ -0,0 +1,85 @@
+/*
+Fixed-memory log-linear histogram of non-negative long values, in the style of HdrHistogram.
+Values below 256 get a bucket each. Above that, every power of two is split into 128 equal sub-buckets,
+so a reported percentile is within 1/128 (under 0.8%) of the true value. The whole value range fits in
+7424 counters, about 58 KB, however many values are recorded. Count, sum, min and max are exact, and
+the sum is a long.
+*/
+class LatencyHistogram {
+    private static final int SUB_BITS = 7;
+    private static final int SUB_COUNT = 1 << SUB_BITS;   // 128 sub-buckets per power of two
+    private static final int LINEAR = SUB_COUNT << 1;     // values below 256 are exact
+    private static final int BUCKETS = LINEAR + (63 - SUB_BITS) * SUB_COUNT;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    // Negative values are counted as 0.
+    void record(long value) {
+        long v = Math.max(value, 0);
+        counts[bucket(v)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    long count() {
+        return count;
+    }
+
+    long sum() {
+        return sum;
+    }
+
+    double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    long min() {
+        return count == 0 ? 0 : min;
+    }
+
+    long max() {
+        return count == 0 ? 0 : max;
+    }
+
+    // Smallest recorded bucket value at or below which at least percent% of the values fall, capped at max().
+    long percentile(double percent) {
+        if (count == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(percent / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) return Math.min(highestValue(i), max);
+        }
+        return max;
+    }
+
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    private static int bucket(long v) {
+        if (v < LINEAR) return (int) v;
+        int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS;
+        return LINEAR + (shift - 1) * SUB_COUNT + (int) (v >>> shift) - SUB_COUNT;
+    }
+
+    private static long highestValue(int bucket) {
+        if (bucket < LINEAR) return bucket;
+        int shift = (bucket - LINEAR) / SUB_COUNT + 1;
+        long mantissa = SUB_COUNT + (bucket - LINEAR) % SUB_COUNT;
+        long upper = ((mantissa + 1) << shift) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+Binary min-heap over packed long keys.
+The event-driven schedulers store (key, process index) pairs as a single long so the
+ready set can hold millions of processes without boxing. Packing with the key in the high
+half and the index in the low half makes equal keys fall back to the lowest index, which is
+the same tie-breaking the original scanning loops use. Given a sequence array, equal keys go to the
+index with the smaller sequence number instead.
+*/
+class LongHeap {
+    private final long[] sequence; // tie-break per index, or null to break ties by index
+    private long[] heap;
+    private int size;
+
+    LongHeap(int capacity) {
+        this(capacity, null);
+    }
+
+    LongHeap(int capacity, long[] sequence) {
+        this.sequence = sequence;
+        heap = new long[Math.max(capacity, 1)];
+    }
+
+    static long pack(int key, int index) {
+        return ((long) key << 32) | (index & 0xffffffffL);
+    }
+
+    static int key(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    static int index(long packed) {
+        return (int) packed;
+    }
+
+    void push(long value) {
+        if (size == heap.length) {
+            heap = java.util.Arrays.copyOf(heap, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(value, heap[parent])) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    long peek() {
+        return heap[0];
+    }
+
+    long pop() {
+        long top = heap[0];
+        long last = heap[--size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && less(heap[child + 1], heap[child])) child++;
+            if (!less(heap[child], last)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    private boolean less(long a, long b) {
+        if (sequence == null || key(a) != key(b)) return a < b;
+        return sequence[index(a)] < sequence[index(b)];
+    }
+}
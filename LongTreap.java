@@ -0,0 +1,221 @@
+/*
+Ordered set of non-negative long keys, each carrying an int value, kept in a treap over primitive
+arrays. Every node also holds the largest value in its subtree, so besides ceiling/floor lookups
+the set can find the first key at or after a position whose value is at least a given size in
+O(log n). FitAllocator keeps its holes in one of these by address (value = hole length) and, for
+best fit, in a second one by packed (length, address); BuddyAllocator keys its free blocks by
+packed (order, address).
+Lookups return NONE when there is no such key.
+*/
+import java.util.Arrays;
+
+class LongTreap {
+    static final long NONE = -1;
+
+    private long[] key;
+    private int[] value;
+    private int[] max;
+    private int[] priority;
+    private int[] left;
+    private int[] right;
+    private int[] freeNodes;
+    private int freeCount;
+    private int nodes = 1; // node 0 is the empty tree
+    private int root;
+    private int size;
+    private int seed = 0x9e3779b9;
+    private int splitLeft, splitRight;
+    private int[] path = new int[64];
+
+    LongTreap(int capacity) {
+        capacity = Math.max(capacity, 1) + 1;
+        key = new long[capacity];
+        value = new int[capacity];
+        max = new int[capacity];
+        priority = new int[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        freeNodes = new int[capacity];
+        max[0] = Integer.MIN_VALUE;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        nodes = 1;
+        root = 0;
+        size = 0;
+        freeCount = 0;
+    }
+
+    // Adds k with value v; k must not already be present.
+    void insert(long k, int v) {
+        int t = newNode(k, v);
+        split(root, k);
+        root = merge(merge(splitLeft, t), splitRight);
+        size++;
+    }
+
+    // Removes k if present.
+    void remove(long k) {
+        split(root, k);
+        int less = splitLeft;
+        split(splitRight, k + 1);
+        int found = splitLeft;
+        if (found != 0) {
+            freeNodes[freeCount++] = found;
+            size--;
+        }
+        root = merge(less, splitRight);
+    }
+
+    // Changes key k to newKey with value v in place; newKey must keep the same position in key order,
+    // that is lie strictly between the neighbours of k. Cheaper than remove and insert.
+    void replace(long k, long newKey, int v) {
+        int depth = 0;
+        int t = root;
+        while (t != 0 && key[t] != k) {
+            if (depth == path.length) path = Arrays.copyOf(path, depth * 2);
+            path[depth++] = t;
+            t = k < key[t] ? left[t] : right[t];
+        }
+        if (t == 0) return;
+        key[t] = newKey;
+        value[t] = v;
+        update(t);
+        while (depth > 0) update(path[--depth]);
+    }
+
+    // Value stored under k, or Integer.MIN_VALUE if k is not present.
+    int get(long k) {
+        int t = root;
+        while (t != 0) {
+            if (k == key[t]) return value[t];
+            t = k < key[t] ? left[t] : right[t];
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    // Smallest key >= k.
+    long ceiling(long k) {
+        long best = NONE;
+        for (int t = root; t != 0; ) {
+            if (key[t] >= k) {
+                best = key[t];
+                t = left[t];
+            } else {
+                t = right[t];
+            }
+        }
+        return best;
+    }
+
+    // Largest key <= k.
+    long floor(long k) {
+        long best = NONE;
+        for (int t = root; t != 0; ) {
+            if (key[t] <= k) {
+                best = key[t];
+                t = right[t];
+            } else {
+                t = left[t];
+            }
+        }
+        return best;
+    }
+
+    // Largest value in the set, or Integer.MIN_VALUE when it is empty.
+    int maxValue() {
+        return max[root];
+    }
+
+    // Smallest key >= from whose value is >= v.
+    long firstAtLeast(long from, int v) {
+        return firstAtLeast(root, from, v);
+    }
+
+    private long firstAtLeast(int t, long from, int v) {
+        while (t != 0 && max[t] >= v) {
+            if (key[t] < from) {
+                t = right[t];
+                continue;
+            }
+            long found = firstAtLeast(left[t], from, v);
+            if (found != NONE) return found;
+            if (value[t] >= v) return key[t];
+            t = right[t];
+        }
+        return NONE;
+    }
+
+    private int newNode(long k, int v) {
+        int t;
+        if (freeCount > 0) {
+            t = freeNodes[--freeCount];
+        } else {
+            if (nodes == key.length) grow();
+            t = nodes++;
+        }
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        key[t] = k;
+        value[t] = v;
+        max[t] = v;
+        priority[t] = seed;
+        left[t] = 0;
+        right[t] = 0;
+        return t;
+    }
+
+    private void grow() {
+        int capacity = key.length * 2;
+        key = Arrays.copyOf(key, capacity);
+        value = Arrays.copyOf(value, capacity);
+        max = Arrays.copyOf(max, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        freeNodes = Arrays.copyOf(freeNodes, capacity);
+    }
+
+    // Splits t into keys < k (splitLeft) and keys >= k (splitRight).
+    private void split(int t, long k) {
+        if (t == 0) {
+            splitLeft = splitRight = 0;
+        } else if (key[t] < k) {
+            split(right[t], k);
+            right[t] = splitLeft;
+            update(t);
+            splitLeft = t;
+        } else {
+            split(left[t], k);
+            left[t] = splitRight;
+            update(t);
+            splitRight = t;
+        }
+    }
+
+    private int merge(int a, int b) {
+        if (a == 0) return b;
+        if (b == 0) return a;
+        if (priority[a] > priority[b]) {
+            right[a] = merge(right[a], b);
+            update(a);
+            return a;
+        }
+        left[b] = merge(a, left[b]);
+        update(b);
+        return b;
+    }
+
+    private void update(int t) {
+        max[t] = Math.max(value[t], Math.max(max[left[t]], max[right[t]]));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+Max segment tree over a fixed array of int values, used by the memory allocators to find the
+lowest-indexed block whose value is at least a requested size in O(log m) instead of scanning.
+Leaves live at [size, 2*size) of a single int array; padding leaves hold Integer.MIN_VALUE.
+*/
+class MaxSegmentTree {
+    private final int size;
+    private final int[] max;
+
+    MaxSegmentTree(int[] values) {
+        int s = 1;
+        while (s < values.length) s <<= 1;
+        size = s;
+        max = new int[2 * s];
+        java.util.Arrays.fill(max, s, 2 * s, Integer.MIN_VALUE);
+        System.arraycopy(values, 0, max, s, values.length);
+        for (int i = s - 1; i >= 1; i--) {
+            max[i] = Math.max(max[2 * i], max[2 * i + 1]);
+        }
+    }
+
+    void set(int index, int value) {
+        int i = index + size;
+        max[i] = value;
+        for (i >>= 1; i >= 1; i >>= 1) {
+            max[i] = Math.max(max[2 * i], max[2 * i + 1]);
+        }
+    }
+
+    int get(int index) {
+        return max[index + size];
+    }
+
+    int max() {
+        return max[1];
+    }
+
+    // Lowest index whose value is >= value, or -1 if there is none.
+    int firstAtLeast(int value) {
+        if (max[1] < value) return -1;
+        int i = 1;
+        while (i < size) {
+            i = max[2 * i] >= value ? 2 * i : 2 * i + 1;
+        }
+        return i - size;
+    }
+
+    // Lowest index at or after from whose value is >= value, or -1 if there is none.
+    int firstAtLeast(int from, int value) {
+        return from >= size ? -1 : firstAtLeast(1, 0, size, from, value);
+    }
+
+    private int firstAtLeast(int node, int lo, int hi, int from, int value) {
+        if (hi <= from || max[node] < value) return -1;
+        if (node >= size) return lo;
+        int mid = (lo + hi) >>> 1;
+        int found = firstAtLeast(2 * node, lo, mid, from, value);
+        return found != -1 ? found : firstAtLeast(2 * node + 1, mid, hi, from, value);
+    }
+}
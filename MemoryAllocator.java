@@ -0,0 +1,30 @@
+/*
+Allocator half of the dynamic memory allocation simulation.
+DynamicAllocation replays a trace of allocate and free events against one MemoryAllocator over a
+contiguous address space [0, memorySize). FitAllocator provides the first, best, next and worst fit
+placement policies of FirstFit, BestFit, NextFit and WorstFit; BuddyAllocator and
+SegregatedFitAllocator are the power-of-two buddy and size-class designs.
+*/
+interface MemoryAllocator {
+    String name();
+
+    // Clears all state: the whole address space is one free hole.
+    void reset(int memorySize);
+
+    // Returns the address of a block holding size units, or -1 when no free space is large enough.
+    int allocate(int size);
+
+    // Releases the block that allocate(size) returned at address.
+    void free(int address, int size);
+
+    // Units actually reserved for a request of the given size; the difference is internal fragmentation.
+    int reservedSize(int size);
+
+    long freeMemory();
+
+    // Largest request that allocate could satisfy right now.
+    int largestFreeBlock();
+
+    // Number of separate free holes.
+    int freeBlocks();
+}
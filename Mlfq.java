@@ -0,0 +1,64 @@
+/*
+Multilevel Feedback Queue (MLFQ) Scheduling
+Simulates an MLFQ scheduler built on the Round Robin quantum logic: several queues, each with its own
+time quantum, demotion of a process that uses its full slice, and a periodic boost of every waiting
+process back to the top queue. Displays the Gantt chart, CT, TAT, WT and their averages.
+*/
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Scanner;
+
+public class Mlfq {
+    // Usage with a trace file (see TraceFile): java Mlfq trace.bin boostPeriod quantum0 quantum1 ...
+    public static void main(String[] args) throws IOException {
+        Workload w;
+        int[] quantum;
+        int boostPeriod;
+        if (args.length > 0) {
+            w = TraceFile.read(Paths.get(args[0]));
+            boostPeriod = Integer.parseInt(args[1]);
+            quantum = new int[args.length - 2];
+            for (int k = 0; k < quantum.length; k++) {
+                quantum[k] = Integer.parseInt(args[k + 2]);
+            }
+        } else {
+            Scanner sc = new Scanner(System.in);
+            w = RoundRobin.readInput(sc);
+            System.out.print("Enter number of queues: ");
+            quantum = new int[sc.nextInt()];
+            for (int k = 0; k < quantum.length; k++) {
+                System.out.print("Enter Time Quantum for Queue " + (k + 1) + ": ");
+                quantum[k] = sc.nextInt();
+            }
+            System.out.print("Enter Boost Period (0 for none): ");
+            boostPeriod = sc.nextInt();
+        }
+        int n = w.n;
+
+        int[] completionTime = new int[n];
+        GanttRecorder gantt = new GanttRecorder();
+        SimulationKernel.run(w, new MlfqPolicy(quantum, boostPeriod), completionTime, gantt);
+
+        TableSink out = TableSink.forStdout();
+        out.blankLine().caption("Gantt Chart:");
+        gantt.print(out, w.processId);
+        out.blankLine().text("PID").sep().text("AT").sep().text("BT").sep().text("CT").sep()
+                .text("TAT").sep().text("WT").endRow();
+
+        long totalTAT = 0, totalWT = 0;
+        for (int i = 0; i < n; i++) {
+            int tat = completionTime[i] - w.arrivalTime[i];
+            if (out.writesRows()) {
+                out.text("P").number(w.processId[i]).sep().number(w.arrivalTime[i]).sep().number(w.burstTime[i]).sep()
+                        .number(completionTime[i]).sep().number(tat).sep().number(tat - w.burstTime[i]).endRow();
+            }
+            totalTAT += tat;
+            totalWT += tat - w.burstTime[i];
+        }
+
+        out.blankLine();
+        out.line(String.format("Average Turnaround Time = %.2f", (double) totalTAT / n));
+        out.line(String.format("Average Waiting Time = %.2f", (double) totalWT / n));
+        out.close();
+    }
+}
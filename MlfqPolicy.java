@@ -0,0 +1,78 @@
+/*
+Multilevel feedback queue as a Scheduler policy.
+Each level is a FIFO queue with its own quantum and uses the slicing rules of RoundRobinPolicy. A new
+process starts at level 0. A process that uses its whole quantum and still has work left drops one
+level. Every boostPeriod time units all waiting processes move back to level 0 in queue order. The
+kernel only calls in at slice ends and arrivals, so no processes are rescanned per quantum. A boost
+costs O(waiting processes), once per period.
+*/
+class MlfqPolicy implements Scheduler {
+    private final int[] quantum;
+    private final int boostPeriod;
+    private IntRing[] levels;
+    private int[] level;
+    private long nextBoost;
+
+    // quantum[k] is the time slice of level k; boostPeriod <= 0 disables the priority boost.
+    MlfqPolicy(int[] quantum, int boostPeriod) {
+        this.quantum = quantum.clone();
+        this.boostPeriod = boostPeriod;
+    }
+
+    public String name() {
+        return "MLFQ(" + quantum.length + " levels)";
+    }
+
+    public void reset(Workload w) {
+        levels = new IntRing[quantum.length];
+        for (int k = 0; k < levels.length; k++) {
+            levels[k] = new IntRing(k == 0 ? w.n : 16);
+        }
+        level = new int[w.n];
+        nextBoost = boostPeriod > 0 ? boostPeriod : Long.MAX_VALUE;
+    }
+
+    public void admit(int p) {
+        level[p] = 0;
+        levels[0].add(p);
+    }
+
+    public boolean isEmpty() {
+        for (IntRing q : levels) {
+            if (!q.isEmpty()) return false;
+        }
+        return true;
+    }
+
+    public int dispatch(int now) {
+        if (now >= nextBoost) {
+            boost();
+            nextBoost = (now / boostPeriod + 1) * (long) boostPeriod;
+        }
+        for (IntRing q : levels) {
+            if (!q.isEmpty()) return q.poll();
+        }
+        throw new IllegalStateException("No ready process");
+    }
+
+    public int slice(int p, int remaining, int now, int nextArrival) {
+        return quantum[level[p]];
+    }
+
+    // The kernel only stops a process early when its quantum is used up, so this always demotes.
+    public void preempted(int p, int remaining) {
+        if (level[p] < levels.length - 1) level[p]++;
+        levels[level[p]].add(p);
+    }
+
+    private void boost() {
+        for (int k = 1; k < levels.length; k++) {
+            IntRing q = levels[k];
+            while (!q.isEmpty()) {
+                int p = q.poll();
+                level[p] = 0;
+                levels[0].add(p);
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+Event-driven simulation of N CPU cores, each with its own run queue.
+Every core gets its own Scheduler instance. A new process joins the core with the fewest ready plus
+running processes. With work stealing on, a core that runs out of work takes the next ready process of
+the busiest core. Slice ends sit in one heap keyed on (end time, core), and arrivals come from the
+arrival-sorted cursor. Per-core load, spare ready processes and idle state are leaves of three
+MaxSegmentTrees, so choosing a core for an arrival, a victim to steal from or the next idle core to
+dispatch never looks at every core. Time jumps from event to event, so a run costs
+O(n log n + slices * log N).
+With one core the schedule is identical to SimulationKernel.
+*/
+import java.util.Arrays;
+import java.util.Scanner;
+import java.util.function.Supplier;
+
+class MultiCoreKernel {
+    public static void main(String[] args) {
+        Scanner sc = new Scanner(System.in);
+        Workload w = Workload.read(sc);
+        System.out.println("Enter number of cores.");
+        int cores = sc.nextInt();
+        System.out.println("Enter policy (1 = SJF, 2 = Round Robin).");
+        int choice = sc.nextInt();
+        Supplier<Scheduler> policy = SjfPolicy::new;
+        if (choice == 2) {
+            System.out.println("Enter time quantum.");
+            int tq = sc.nextInt();
+            policy = () -> new RoundRobinPolicy(tq);
+        }
+        System.out.println("Enable work stealing? (1 = yes, 0 = no)");
+        boolean stealing = sc.nextInt() == 1;
+
+        int[] completionTime = new int[w.n];
+        int[] coreOf = new int[w.n];
+        long[] busy = run(w, cores, policy, stealing, completionTime, coreOf);
+
+        TableSink out = TableSink.forStdout();
+        out.blankLine().text("Pid").sep().text("Core").sep().text("AT").sep().text("BT").sep().text("CT").sep()
+                .text("TAT").sep().text("WT").endRow();
+        long totalTAT = 0, totalWT = 0, makespan = 0;
+        for (int i = 0; i < w.n; i++) {
+            int tat = completionTime[i] - w.arrivalTime[i];
+            totalTAT += tat;
+            totalWT += tat - w.burstTime[i];
+            makespan = Math.max(makespan, completionTime[i]);
+            if (out.writesRows()) {
+                out.text("P").number(w.processId[i]).sep().text("C").number(coreOf[i] + 1).sep()
+                        .number(w.arrivalTime[i]).sep().number(w.burstTime[i]).sep().number(completionTime[i]).sep()
+                        .number(tat).sep().number(tat - w.burstTime[i]).endRow();
+            }
+        }
+        out.blankLine().text("Core").sep().text("Busy").sep().text("Utilisation").endRow();
+        for (int c = 0; c < cores; c++) {
+            out.text("C").number(c + 1).sep().number(busy[c]).sep()
+                    .text(String.format("%.2f%%", makespan == 0 ? 0.0 : 100.0 * busy[c] / makespan)).endRow();
+        }
+        out.line(String.format("Average Turnaround Time = %.2f", (double) totalTAT / w.n));
+        out.line(String.format("Average Waiting Time = %.2f", (double) totalWT / w.n));
+        out.close();
+    }
+
+    // Fills completionTime and coreOf (the core that finished each process); returns busy time per core.
+    static long[] run(Workload w, int cores, Supplier<Scheduler> policy, boolean stealing,
+                      int[] completionTime, int[] coreOf) {
+        if (cores < 1) throw new IllegalArgumentException("Core count must be positive: " + cores);
+        int n = w.n;
+        int[] arrivalTime = w.arrivalTime;
+        int[] order = w.order.clone(); // admission batches are re-sorted in place
+        int[] remaining = w.burstTime.clone();
+        Scheduler[] queue = new Scheduler[cores];
+        for (int c = 0; c < cores; c++) {
+            queue[c] = policy.get();
+            queue[c].reset(w);
+        }
+        int[] ready = new int[cores];
+        int[] running = new int[cores];
+        int[] sliceStart = new int[cores];
+        long[] busy = new long[cores];
+        int[] stopped = new int[cores];
+        Arrays.fill(running, -1);
+        CoreIndex index = new CoreIndex(cores);
+        LongHeap sliceEnds = new LongHeap(cores);
+        int time = 0, completed = 0, next = 0, busyCores = 0;
+
+        while (completed < n) {
+            // While every core is busy, arrivals wait for the next slice end and are then admitted together
+            // in index order, the same batching a single Round Robin CPU applies.
+            int nextArrival = next < n ? arrivalTime[order[next]] : Integer.MAX_VALUE;
+            if (busyCores == cores) {
+                time = LongHeap.key(sliceEnds.peek());
+            } else if (!sliceEnds.isEmpty()) {
+                time = Math.min(nextArrival, LongHeap.key(sliceEnds.peek()));
+            } else if (nextArrival > time) {
+                time = nextArrival;
+            }
+
+            int stoppedCount = 0;
+            while (!sliceEnds.isEmpty() && LongHeap.key(sliceEnds.peek()) == time) {
+                int c = LongHeap.index(sliceEnds.pop());
+                int p = running[c];
+                remaining[p] -= time - sliceStart[c];
+                busy[c] += time - sliceStart[c];
+                busyCores--;
+                if (remaining[p] == 0) {
+                    completionTime[p] = time;
+                    coreOf[p] = c;
+                    running[c] = -1;
+                    index.update(c, ready[c], running[c]);
+                    completed++;
+                } else {
+                    stopped[stoppedCount++] = c;
+                }
+            }
+
+            int end = next;
+            while (end < n && arrivalTime[order[end]] <= time) end++;
+            if (end - next > 1) Arrays.sort(order, next, end);
+            for (; next < end; next++) {
+                int c = index.leastLoaded();
+                queue[c].admit(order[next]);
+                ready[c]++;
+                index.update(c, ready[c], running[c]);
+            }
+            nextArrival = next < n ? arrivalTime[order[next]] : Integer.MAX_VALUE;
+
+            // Preempted processes rejoin their own core after the arrivals, as on a single CPU.
+            for (int k = 0; k < stoppedCount; k++) {
+                int c = stopped[k];
+                queue[c].preempted(running[c], remaining[running[c]]);
+                ready[c]++;
+                running[c] = -1;
+                index.update(c, ready[c], running[c]);
+            }
+
+            // Idle cores are served in index order. A core with an empty queue can only act by stealing,
+            // and spare processes never increase during this pass, so once nothing can be stolen the
+            // remaining empty cores are skipped.
+            for (int from = 0; ; ) {
+                int c = index.nextIdle(from, stealing && index.mostSpare() > 0);
+                if (c == -1) break;
+                from = c + 1;
+                if (ready[c] == 0) {
+                    int victim = index.busiest();
+                    int p = queue[victim].dispatch(time);
+                    queue[c].preempted(p, remaining[p]);
+                    ready[victim]--;
+                    ready[c]++;
+                    index.update(victim, ready[victim], running[victim]);
+                }
+                int p = queue[c].dispatch(time);
+                ready[c]--;
+                int run = Math.min(queue[c].slice(p, remaining[p], time, nextArrival), remaining[p]);
+                running[c] = p;
+                sliceStart[c] = time;
+                sliceEnds.push(LongHeap.pack(time + run, c));
+                busyCores++;
+                index.update(c, ready[c], running[c]);
+            }
+        }
+        return busy;
+    }
+
+    // Per-core load, spare and idle state in three max segment trees; ties go to the lowest core index.
+    private static final class CoreIndex {
+        private static final int IDLE_EMPTY = 1, IDLE_READY = 2;
+        private final MaxSegmentTree negatedLoad; // -(ready + running)
+        private final MaxSegmentTree spare;       // ready processes the core could give away
+        private final MaxSegmentTree idle;        // IDLE_READY, IDLE_EMPTY or Integer.MIN_VALUE when running
+
+        CoreIndex(int cores) {
+            int[] init = new int[cores];
+            negatedLoad = new MaxSegmentTree(init);
+            Arrays.fill(init, -1);
+            spare = new MaxSegmentTree(init);
+            Arrays.fill(init, IDLE_EMPTY);
+            idle = new MaxSegmentTree(init);
+        }
+
+        void update(int c, int ready, int running) {
+            boolean isIdle = running == -1;
+            negatedLoad.set(c, -(ready + (isIdle ? 0 : 1)));
+            spare.set(c, isIdle ? ready - 1 : ready);
+            idle.set(c, !isIdle ? Integer.MIN_VALUE : ready > 0 ? IDLE_READY : IDLE_EMPTY);
+        }
+
+        int leastLoaded() {
+            return negatedLoad.firstAtLeast(negatedLoad.max());
+        }
+
+        int mostSpare() {
+            return spare.max();
+        }
+
+        // Core with the most ready processes that can spare one; only valid when mostSpare() > 0.
+        int busiest() {
+            return spare.firstAtLeast(spare.max());
+        }
+
+        // Lowest idle core at or after from that has ready processes, or also one with an empty queue
+        // when includeEmpty is set; -1 if there is none.
+        int nextIdle(int from, boolean includeEmpty) {
+            return idle.firstAtLeast(from, includeEmpty ? IDLE_EMPTY : IDLE_READY);
+        }
+    }
+}
@@ -4,10 +4,46 @@ Write a program to simulate Next Fit memory allocation strategy.
 The program should continue searching for the next suitable memory block from the last allocated position instead of starting from the beginning.
 Display the memory allocation table and fragmentation details.
 */
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.*;
 public class NextFit {
-    public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
+    // With an input file argument (see TraceFile.readMemory) the sizes are read from it instead of the prompts.
+    public static void main(String[] args) throws IOException {
+        int[][] input = args.length > 0 ? TraceFile.readMemory(Paths.get(args[0])) : readInput(new Scanner(System.in));
+        int[] blockSize = input[0];
+        int[] processSize = input[1];
+        int n = processSize.length;
+        int[] allocation = new int[n];
+        allocate(blockSize, processSize, allocation);
+        TableSink out = TableSink.forStdout();
+        AllocationReport.printAllocationTable(out, "Remaining Block Size", processSize, allocation, blockSize);
+        out.close();
+    }
+
+    // Indexed engine: a max segment tree over the remaining block sizes answers "first block at or after
+    // lastAllocatedIndex that fits", falling back to the blocks before it, in O(log m). The pointer then
+    // moves one past the chosen block; a failed request would have probed all the way round the ring, so
+    // it leaves the pointer where it was.
+    static void allocate(int[] blockSize, int[] processSize, int[] allocation) {
+        int m = blockSize.length;
+        MaxSegmentTree remaining = new MaxSegmentTree(blockSize);
+        int lastAllocatedIndex = 0;
+        for (int i = 0; i < processSize.length; i++) {
+            int j = m == 0 ? -1 : remaining.firstAtLeast(lastAllocatedIndex, processSize[i]);
+            if (j == -1 && lastAllocatedIndex > 0) {
+                j = remaining.firstAtLeast(processSize[i]);
+            }
+            allocation[i] = j;
+            if (j != -1) {
+                blockSize[j] -= processSize[i];
+                remaining.set(j, blockSize[j]);
+                lastAllocatedIndex = (j + 1) % m;
+            }
+        }
+    }
+
+    static int[][] readInput(Scanner sc) {
         System.out.print("Enter number of memory blocks: ");
         int m = sc.nextInt();
         int[] blockSize = new int[m];
@@ -19,38 +55,11 @@ public class NextFit {
         System.out.print("\nEnter number of processes: ");
         int n = sc.nextInt();
         int[] processSize = new int[n];
-        int[] allocation = new int[n];
-        Arrays.fill(allocation, -1);
         System.out.println("Enter size of each process:");
         for (int i = 0; i < n; i++) {
             System.out.print("Process " + (i + 1) + ": ");
             processSize[i] = sc.nextInt();
         }
-        int lastAllocatedIndex = 0;
-        for (int i = 0; i < n; i++) {
-            int count = 0;
-            boolean allocated = false;
-            while (count < m) {
-                if (blockSize[lastAllocatedIndex] >= processSize[i]) {
-                    allocation[i] = lastAllocatedIndex;
-                    blockSize[lastAllocatedIndex] -= processSize[i];
-                    allocated = true;
-                    break;
-                }
-                lastAllocatedIndex = (lastAllocatedIndex + 1) % m;
-                count++;
-            }
-            if (allocated)
-                lastAllocatedIndex = (lastAllocatedIndex + 1) % m; // Move to next block after allocation
-        }
-        System.out.println("\nMemory Allocation Table:");
-        System.out.println("Process\tSize\tBlock Allocated\tInternal Fragmentation");
-        for (int i = 0; i < n; i++) {
-            if (allocation[i] != -1) {
-                System.out.println("P" + (i + 1) + "\t" + processSize[i] + "\tB" + (allocation[i] + 1) + "\t\t" + blockSize[allocation[i]]);
-            } else {
-                System.out.println("P" + (i + 1) + "\t" + processSize[i] + "\tNot Allocated\t-");
-            }
-        }
+        return new int[][] {blockSize, processSize};
     }
 }
@@ -0,0 +1,149 @@
+/*
+Online front end to the Scheduler policies: arrivals are fed in as a stream instead of a full list.
+submit() queues a process, advanceTo() runs the simulation up to a point in time, and snapshot() reads
+the running averages. Every submitted process takes one slot of a fixed-size private Workload until it
+completes. Its turnaround and waiting times then go into a constant-memory SchedulingStats and the
+slot is reused. Memory depends on how many processes are in the system at once, not on how many have
+passed through.
+
+Works with FcfsPolicy, SjfPolicy, PriorityPolicy, RoundRobinPolicy and the other policies that read the
+process attributes when a process is admitted. Processes that arrive together - during one slice, or at
+the same instant - are admitted in submission order, as SimulationKernel admits each batch in index
+order; a workload submitted up front in index order is therefore scheduled exactly as the kernel
+schedules it. Slots are recycled, so the slot Workload carries each slot's submission sequence and the
+policies break ties between equal keys on it; equal keys go to the earlier submission, as they go to
+the lower index in a batch run.
+*/
+class OnlineScheduler {
+    static class Snapshot {
+        final long time;
+        final long completed;
+        final int inSystem;
+        final double averageTurnAround;
+        final double averageWaiting;
+        final long p99TurnAround;
+        final long p99Waiting;
+        final long maxTurnAround;
+        final long maxWaiting;
+
+        Snapshot(long time, int inSystem, SchedulingStats stats) {
+            this.time = time;
+            this.completed = stats.completed();
+            this.inSystem = inSystem;
+            this.averageTurnAround = stats.turnAround.mean();
+            this.averageWaiting = stats.waiting.mean();
+            this.p99TurnAround = stats.turnAround.percentile(99);
+            this.p99Waiting = stats.waiting.percentile(99);
+            this.maxTurnAround = stats.turnAround.max();
+            this.maxWaiting = stats.waiting.max();
+        }
+    }
+
+    private final Scheduler policy;
+    private final Workload slots;
+    private final int[] remaining;
+    private final IntRing freeSlots;
+    private final LongHeap pending; // (arrival, slot) of submitted processes that have not arrived yet
+    private final long[] submitted;  // submission sequence number of each slot
+    private final KeyedHeap arrived; // the current admission batch, by submission order
+    private long submissions;
+    private int inSystem;
+    private int time;
+    private int running = -1;
+    private int sliceStart;
+    private int sliceEnd;
+
+    private final SchedulingStats stats = new SchedulingStats();
+
+    // capacity bounds how many submitted, unfinished processes may exist at any one time.
+    OnlineScheduler(Scheduler policy, int capacity) {
+        this.policy = policy;
+        this.submitted = new long[capacity];
+        this.slots = new Workload(new int[capacity], new int[capacity], new int[capacity], new int[capacity],
+                submitted);
+        this.remaining = new int[capacity];
+        this.freeSlots = new IntRing(capacity);
+        for (int s = 0; s < capacity; s++) {
+            freeSlots.add(s);
+        }
+        this.pending = new LongHeap(capacity);
+        this.arrived = new KeyedHeap(submitted, capacity);
+        policy.reset(slots);
+    }
+
+    // Arrival times may not lie before the time already simulated.
+    void submit(int pid, int arrival, int burst, int priority) {
+        if (arrival < time) {
+            throw new IllegalArgumentException("Arrival " + arrival + " is before current time " + time);
+        }
+        if (freeSlots.isEmpty()) {
+            throw new IllegalStateException("More than " + slots.n + " unfinished processes");
+        }
+        int s = freeSlots.poll();
+        slots.processId[s] = pid;
+        slots.arrivalTime[s] = arrival;
+        slots.burstTime[s] = burst;
+        slots.priority[s] = priority;
+        remaining[s] = burst;
+        submitted[s] = submissions++;
+        pending.push(LongHeap.pack(arrival, s));
+        inSystem++;
+        // A slice that ends at the next arrival (such as SJF) may need to end earlier now.
+        if (running != -1 && arrival < sliceEnd) {
+            int run = policy.slice(running, remaining[running], sliceStart, arrival);
+            sliceEnd = sliceStart + Math.min(run, sliceEnd - sliceStart);
+        }
+    }
+
+    // Simulates every event up to and including the given time.
+    void advanceTo(int until) {
+        while (true) {
+            int nextArrival = pending.isEmpty() ? Integer.MAX_VALUE : LongHeap.key(pending.peek());
+            int next = running != -1 ? sliceEnd : nextArrival;
+            if (next > until || next == Integer.MAX_VALUE) break; // nothing left to run
+            time = next;
+            int stopped = -1;
+            if (running != -1 && sliceEnd == time) {
+                remaining[running] -= time - sliceStart;
+                if (remaining[running] == 0) {
+                    complete(running);
+                } else {
+                    stopped = running;
+                }
+                running = -1;
+            }
+            while (!pending.isEmpty() && LongHeap.key(pending.peek()) <= time) {
+                arrived.push(LongHeap.index(pending.pop()));
+            }
+            while (!arrived.isEmpty()) {
+                policy.admit(arrived.pop());
+            }
+            if (stopped != -1) {
+                policy.preempted(stopped, remaining[stopped]);
+            }
+            if (!policy.isEmpty()) {
+                running = policy.dispatch(time);
+                nextArrival = pending.isEmpty() ? Integer.MAX_VALUE : LongHeap.key(pending.peek());
+                sliceStart = time;
+                sliceEnd = time + Math.min(policy.slice(running, remaining[running], time, nextArrival),
+                        remaining[running]);
+            }
+        }
+        time = Math.max(time, until);
+    }
+
+    Snapshot snapshot() {
+        return new Snapshot(time, inSystem, stats);
+    }
+
+    // Live TAT/WT histograms of every process completed so far.
+    SchedulingStats stats() {
+        return stats;
+    }
+
+    private void complete(int s) {
+        stats.record(slots.arrivalTime[s], slots.burstTime[s], time);
+        inSystem--;
+        freeSlots.add(s);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+Runs a batch of independent tasks on a ForkJoinPool and collects their results in task order.
+Shared by PolicyComparison and AllocationSweep; a failing task is rethrown unchecked with its cause,
+and an interrupted wait restores the interrupt flag before giving up.
+*/
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+class ParallelTasks {
+    static <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> f : pool.invokeAll(tasks)) {
+                results.add(f.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parallel run interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Policy run failed", e.getCause());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+Runs several Scheduler policies in parallel against one shared Workload and tabulates the results.
+The Workload arrays are only ever read, and every task gets its own policy instance and completion
+array, so runs are independent and wall-clock time follows the core count rather than the number of
+policies (for example fcfs, sjf, priority and Round Robin with many quanta).
+*/
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+class PolicyComparison {
+    static class Row {
+        final String policy;
+        final double averageTurnAround;
+        final double averageWaiting;
+        final double throughput; // completed processes per time unit
+        final long makespan;     // last completion minus first arrival
+
+        Row(String policy, double averageTurnAround, double averageWaiting, double throughput, long makespan) {
+            this.policy = policy;
+            this.averageTurnAround = averageTurnAround;
+            this.averageWaiting = averageWaiting;
+            this.throughput = throughput;
+            this.makespan = makespan;
+        }
+    }
+
+    public static void main(String[] args) {
+        Scanner sc = new Scanner(System.in);
+        Workload w = Workload.read(sc);
+        System.out.println("Enter number of Round Robin time quanta to compare.");
+        int q = sc.nextInt();
+        List<Scheduler> policies = new ArrayList<>();
+        policies.add(new FcfsPolicy());
+        policies.add(new SjfPolicy());
+        policies.add(new PriorityPolicy());
+        for (int i = 0; i < q; i++) {
+            System.out.println("Enter time quantum " + (i + 1));
+            policies.add(new RoundRobinPolicy(sc.nextInt()));
+        }
+        print(compare(w, policies, ForkJoinPool.commonPool()));
+    }
+
+    // Each policy instance must be used by this call only; rows come back in the order of policies.
+    static List<Row> compare(Workload w, List<Scheduler> policies, ForkJoinPool pool) {
+        List<Callable<Row>> tasks = new ArrayList<>();
+        for (Scheduler policy : policies) {
+            tasks.add(() -> summarize(w, policy));
+        }
+        return ParallelTasks.invokeAll(pool, tasks);
+    }
+
+    static Row summarize(Workload w, Scheduler policy) {
+        int[] completionTime = new int[w.n];
+        SimulationKernel.run(w, policy, completionTime);
+        long totalTAT = 0, totalWT = 0;
+        int lastCompletion = Integer.MIN_VALUE;
+        for (int i = 0; i < w.n; i++) {
+            int tat = completionTime[i] - w.arrivalTime[i];
+            totalTAT += tat;
+            totalWT += tat - w.burstTime[i];
+            lastCompletion = Math.max(lastCompletion, completionTime[i]);
+        }
+        long makespan = w.n == 0 ? 0 : (long) lastCompletion - w.arrivalTime[w.order[0]];
+        return new Row(policy.name(), (double) totalTAT / w.n, (double) totalWT / w.n,
+                makespan == 0 ? 0 : (double) w.n / makespan, makespan);
+    }
+
+    static void print(List<Row> rows) {
+        System.out.println("\nPolicy\tAvg TAT\tAvg WT\tThroughput\tMakespan");
+        for (Row r : rows) {
+            System.out.printf("%s\t%.2f\t%.2f\t%.4f\t\t%d%n", r.policy, r.averageTurnAround, r.averageWaiting,
+                    r.throughput, r.makespan);
+        }
+    }
+}
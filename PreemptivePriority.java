@@ -0,0 +1,40 @@
+/*
+Priority Scheduling (Preemptive)
+Simulates preemptive priority scheduling: the process with the highest priority (lowest value) runs,
+and a running process loses the CPU when a higher-priority process arrives. Displays the Gantt chart,
+how often each process was preempted, CT, TAT, WT and their averages.
+*/
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Scanner;
+
+class PreemptivePriority {
+    // With a trace file argument (see TraceFile) the processes are read from it instead of the prompts.
+    public static void main(String[] args) throws IOException {
+        Workload w=args.length>0?TraceFile.read(Paths.get(args[0])):priority.readInput(new Scanner(System.in));
+        int n=w.n;
+        int[] completionTime=new int[n];
+        GanttRecorder gantt=new GanttRecorder();
+        PreemptivePriorityPolicy policy=new PreemptivePriorityPolicy();
+        SimulationKernel.run(w,policy,completionTime,gantt);
+
+        TableSink out=TableSink.forStdout();
+        out.blankLine().caption("Gantt Chart:");
+        gantt.print(out,w.processId);
+        out.blankLine().text("Pid").sep().text("AT").sep().text("BT").sep().text("Pr").sep().text("Preempted").sep().text("CT").sep().text("TAT").sep().text("WT").endRow();
+        double totalTAT=0,totalWT=0;
+        for(int i=0;i<n;i++){
+            int turnAroundTime=completionTime[i]-w.arrivalTime[i];
+            int waitingTime=turnAroundTime-w.burstTime[i];
+            totalTAT+=turnAroundTime;
+            totalWT+=waitingTime;
+            if(out.writesRows()){
+                out.text("P").number(w.processId[i]).sep().number(w.arrivalTime[i]).sep().number(w.burstTime[i]).sep().number(w.priority[i]).sep().number(policy.preemptions(i)).sep().number(completionTime[i]).sep().number(turnAroundTime).sep().number(waitingTime).endRow();
+            }
+        }
+        out.line("Total preemptions = "+policy.totalPreemptions());
+        out.line("Average turn around time = "+totalTAT/n);
+        out.line("Average Waiting time = "+totalWT/n);
+        out.close();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+Preemptive priority scheduling as a Scheduler policy.
+Lower priority values run first, and ties go to the lowest index. The running process keeps the CPU
+until it finishes or a strictly higher-priority (lower value) process arrives. Each slice ends at the
+next arrival, and at that point the interrupted process either resumes or goes back into the heap. The
+work is proportional to arrivals and completions, not to total burst time.
+*/
+class PreemptivePriorityPolicy implements Scheduler {
+    private Workload w;
+    private LongHeap ready;
+    private int interrupted; // process stopped at an arrival, not yet back in the heap
+    private int[] preemptions;
+    private long totalPreemptions;
+
+    public String name() {
+        return "Priority(preemptive)";
+    }
+
+    public void reset(Workload w) {
+        this.w = w;
+        ready = new LongHeap(w.n, w.sequence);
+        interrupted = -1;
+        preemptions = new int[w.n];
+        totalPreemptions = 0;
+    }
+
+    public void admit(int p) {
+        ready.push(LongHeap.pack(w.priority[p], p));
+    }
+
+    public boolean isEmpty() {
+        return interrupted == -1 && ready.isEmpty();
+    }
+
+    public int dispatch(int now) {
+        int p = interrupted;
+        interrupted = -1;
+        if (p == -1) {
+            return LongHeap.index(ready.pop());
+        }
+        if (!ready.isEmpty() && LongHeap.key(ready.peek()) < w.priority[p]) {
+            preemptions[p]++;
+            totalPreemptions++;
+            admit(p);
+            return LongHeap.index(ready.pop());
+        }
+        return p;
+    }
+
+    public int slice(int p, int remaining, int now, int nextArrival) {
+        return nextArrival == Integer.MAX_VALUE ? remaining : Math.min(remaining, nextArrival - now);
+    }
+
+    public void preempted(int p, int remaining) {
+        interrupted = p;
+    }
+
+    // Number of times process p lost the CPU to a higher-priority arrival.
+    int preemptions(int p) {
+        return preemptions[p];
+    }
+
+    long totalPreemptions() {
+        return totalPreemptions;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+Non-preemptive priority scheduling as a Scheduler policy: lower priority values run first and
+ties go to the lowest index, as in the original priority scan. priority runs it through SimulationKernel.
+*/
+class PriorityPolicy implements Scheduler {
+    private Workload w;
+    private LongHeap ready;
+
+    public String name() {
+        return "Priority";
+    }
+
+    public void reset(Workload w) {
+        this.w = w;
+        ready = new LongHeap(w.n, w.sequence);
+    }
+
+    public void admit(int p) {
+        ready.push(LongHeap.pack(w.priority[p], p));
+    }
+
+    public boolean isEmpty() {
+        return ready.isEmpty();
+    }
+
+    public int dispatch(int now) {
+        return LongHeap.index(ready.pop());
+    }
+
+    public int slice(int p, int remaining, int now, int nextArrival) {
+        return remaining;
+    }
+
+    public void preempted(int p, int remaining) {
+        admit(p);
+    }
+}
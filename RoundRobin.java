@@ -4,90 +4,92 @@ Write a program to simulate the Round Robin (Preemptive) CPU scheduling algorith
 The program should take time quantum as input and schedule processes in a cyclic order.
 Display the Gantt chart, waiting time, turnaround time, and average values for all processes.
 */
-import java.util.*;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Scanner;
 
 public class RoundRobin {
-    public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
-
-        System.out.print("Enter number of processes: ");
-        int n = sc.nextInt();
+    // Usage with a trace file (see TraceFile): java RoundRobin trace.bin quantum
+    public static void main(String[] args) throws IOException {
+        Workload w;
+        int tq;
+        if (args.length > 0) {
+            w = TraceFile.read(Paths.get(args[0]));
+            tq = Integer.parseInt(args[1]);
+        } else {
+            Scanner sc = new Scanner(System.in);
+            w = readInput(sc);
+            System.out.print("Enter Time Quantum: ");
+            tq = sc.nextInt();
+        }
+        TableSink out = TableSink.forStdout();
+        if (!out.writesRows()) {
+            // Summary only: completions go straight into the histograms, with no per-process arrays.
+            SchedulingStats stats = new SchedulingStats();
+            GanttRecorder gantt = System.getProperty("gantt.file") != null ? new GanttRecorder() : null;
+            SimulationKernel.run(w, new RoundRobinPolicy(tq), stats, gantt);
+            if (gantt != null) {
+                gantt.write(Paths.get(System.getProperty("gantt.file")), w.processId);
+            }
+            out.line(String.format("Average Turnaround Time = %.2f", stats.turnAround.mean()));
+            out.line(String.format("Average Waiting Time = %.2f", stats.waiting.mean()));
+            stats.print(out, "RR(q=" + tq + ")");
+            out.close();
+            return;
+        }
+        int n = w.n;
 
-        int[] processId = new int[n];
-        int[] arrivalTime = new int[n];
-        int[] burstTime = new int[n];
-        int[] remainingTime = new int[n];
+        int[] processId = w.processId;
+        int[] arrivalTime = w.arrivalTime;
+        int[] burstTime = w.burstTime;
         int[] waitingTime = new int[n];
         int[] turnaroundTime = new int[n];
         int[] completionTime = new int[n];
 
+        GanttRecorder gantt = new GanttRecorder();
+        SimulationKernel.run(w, new RoundRobinPolicy(tq), completionTime, gantt);
+        if (System.getProperty("gantt.file") != null) {
+            gantt.write(Paths.get(System.getProperty("gantt.file")), processId);
+        }
         for (int i = 0; i < n; i++) {
-            processId[i] = i + 1;
-            System.out.print("Enter Arrival Time for Process " + (i + 1) + ": ");
-            arrivalTime[i] = sc.nextInt();
-            System.out.print("Enter Burst Time for Process " + (i + 1) + ": ");
-            burstTime[i] = sc.nextInt();
-            remainingTime[i] = burstTime[i];
+            turnaroundTime[i] = completionTime[i] - arrivalTime[i];
+            waitingTime[i] = turnaroundTime[i] - burstTime[i];
         }
 
-        System.out.print("Enter Time Quantum: ");
-        int tq = sc.nextInt();
+        out.blankLine().caption("Gantt Chart:");
+        gantt.print(out, processId);
+        out.blankLine().text("PID").sep().text("AT").sep().text("BT").sep().text("CT").sep()
+                .text("TAT").sep().text("WT").endRow();
 
-        int time = 0, completed = 0;
-        Queue<Integer> q = new LinkedList<>();
-        boolean[] inQueue = new boolean[n];
-
-        System.out.println("\nGantt Chart:");
-        while (completed < n) {
-            
-            for (int i = 0; i < n; i++) {
-                if (arrivalTime[i] <= time && !inQueue[i] && remainingTime[i] > 0) {
-                    q.add(i);
-                    inQueue[i] = true;
-                }
-            }
-
-            if (q.isEmpty()) {
-                time++;
-                continue;
+        long totalTAT = 0, totalWT = 0;
+        for (int i = 0; i < n; i++) {
+            if (out.writesRows()) {
+                out.text("P").number(processId[i]).sep().number(arrivalTime[i]).sep().number(burstTime[i]).sep()
+                        .number(completionTime[i]).sep().number(turnaroundTime[i]).sep().number(waitingTime[i]).endRow();
             }
+            totalTAT += turnaroundTime[i];
+            totalWT += waitingTime[i];
+        }
 
-            int i = q.poll();
-            System.out.print("P" + processId[i] + " | ");
-
-            int execTime = Math.min(remainingTime[i], tq);
-            remainingTime[i] -= execTime;
-            time += execTime;
-
-            
-            for (int j = 0; j < n; j++) {
-                if (arrivalTime[j] <= time && !inQueue[j] && remainingTime[j] > 0) {
-                    q.add(j);
-                    inQueue[j] = true;
-                }
-            }
+        out.blankLine();
+        out.line(String.format("Average Turnaround Time = %.2f", (double) totalTAT / n));
+        out.line(String.format("Average Waiting Time = %.2f", (double) totalWT / n));
+        out.close();
+    }
 
-            if (remainingTime[i] > 0) {
-                q.add(i);
-            } else {
-                completionTime[i] = time;
-                turnaroundTime[i] = completionTime[i] - arrivalTime[i];
-                waitingTime[i] = turnaroundTime[i] - burstTime[i];
-                completed++;
-            }
-        }
+    static Workload readInput(Scanner sc) {
+        System.out.print("Enter number of processes: ");
+        int n = sc.nextInt();
 
-        System.out.println("\n\nPID\tAT\tBT\tCT\tTAT\tWT");
+        int[] arrivalTime = new int[n];
+        int[] burstTime = new int[n];
 
-        float avgTAT = 0, avgWT = 0;
         for (int i = 0; i < n; i++) {
-            System.out.println("P" + processId[i] + "\t" + arrivalTime[i] + "\t" + burstTime[i] + "\t" +
-                    completionTime[i] + "\t" + turnaroundTime[i] + "\t" + waitingTime[i]);
-            avgTAT += turnaroundTime[i];
-            avgWT += waitingTime[i];
+            System.out.print("Enter Arrival Time for Process " + (i + 1) + ": ");
+            arrivalTime[i] = sc.nextInt();
+            System.out.print("Enter Burst Time for Process " + (i + 1) + ": ");
+            burstTime[i] = sc.nextInt();
         }
-
-        System.out.printf("\nAverage Turnaround Time = %.2f", avgTAT / n);
-        System.out.printf("\nAverage Waiting Time = %.2f\n", avgWT / n);
+        return new Workload(arrivalTime, burstTime, null);
     }
 }
@@ -0,0 +1,40 @@
+/*
+Round Robin as a Scheduler policy: a FIFO ready queue and a fixed time quantum. The kernel admits
+arrivals before re-queueing the preempted process, as the original RoundRobin loop did.
+*/
+class RoundRobinPolicy implements Scheduler {
+    private final int quantum;
+    private IntRing ready;
+
+    RoundRobinPolicy(int quantum) {
+        this.quantum = quantum;
+    }
+
+    public String name() {
+        return "RR(q=" + quantum + ")";
+    }
+
+    public void reset(Workload w) {
+        ready = new IntRing(w.n);
+    }
+
+    public void admit(int p) {
+        ready.add(p);
+    }
+
+    public boolean isEmpty() {
+        return ready.isEmpty();
+    }
+
+    public int dispatch(int now) {
+        return ready.poll();
+    }
+
+    public int slice(int p, int remaining, int now, int nextArrival) {
+        return quantum;
+    }
+
+    public void preempted(int p, int remaining) {
+        ready.add(p);
+    }
+}
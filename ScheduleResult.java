@@ -0,0 +1,32 @@
+/*
+Per-process outcome of one SimulationKernel run.
+*/
+class ScheduleResult {
+    final String policy;
+    final int[] completionTime;
+    final int[] turnAroundTime;
+    final int[] waitingTime;
+
+    ScheduleResult(String policy, Workload w, int[] completionTime) {
+        this.policy = policy;
+        this.completionTime = completionTime;
+        this.turnAroundTime = new int[w.n];
+        this.waitingTime = new int[w.n];
+        for (int i = 0; i < w.n; i++) {
+            turnAroundTime[i] = completionTime[i] - w.arrivalTime[i];
+            waitingTime[i] = turnAroundTime[i] - w.burstTime[i];
+        }
+    }
+
+    double averageTurnAround() {
+        long total = 0;
+        for (int t : turnAroundTime) total += t;
+        return (double) total / turnAroundTime.length;
+    }
+
+    double averageWaiting() {
+        long total = 0;
+        for (int t : waitingTime) total += t;
+        return (double) total / waitingTime.length;
+    }
+}
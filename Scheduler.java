@@ -0,0 +1,26 @@
+/*
+Policy half of the shared CPU scheduling simulation.
+SimulationKernel owns time, the arrival cursor and the remaining burst of every process; a Scheduler
+only decides which ready process runs next and for how long. fcfs, sjf, priority and RoundRobin are
+available as FcfsPolicy, SjfPolicy, PriorityPolicy and RoundRobinPolicy.
+*/
+interface Scheduler {
+    String name();
+
+    // Clears all state before a run over the given workload.
+    void reset(Workload w);
+
+    // Process p has arrived and is ready to run.
+    void admit(int p);
+
+    boolean isEmpty();
+
+    // Removes and returns the ready process that gets the CPU at time now.
+    int dispatch(int now);
+
+    // How long p may run before the kernel asks again; values past remaining are capped by the kernel.
+    int slice(int p, int remaining, int now, int nextArrival);
+
+    // p was stopped with remaining > 0 and is ready again.
+    void preempted(int p, int remaining);
+}
@@ -0,0 +1,42 @@
+/*
+Constant-memory turnaround and waiting time statistics for a scheduling run.
+Completions are recorded one at a time into two LatencyHistograms, so mean, p50, p99, p99.9 and max are
+available without keeping completionTime, turnAroundTime or waitingTime arrays.
+*/
+class SchedulingStats {
+    final LatencyHistogram turnAround = new LatencyHistogram();
+    final LatencyHistogram waiting = new LatencyHistogram();
+
+    void record(long arrival, long burst, long completion) {
+        long tat = completion - arrival;
+        turnAround.record(tat);
+        waiting.record(tat - burst);
+    }
+
+    long completed() {
+        return turnAround.count();
+    }
+
+    void print(TableSink out, String label) {
+        if (!out.writesRows()) {
+            // table.format=summary drops table rows, so the same figures go out as summary lines.
+            line(out, label + " TAT", turnAround);
+            line(out, label + " WT", waiting);
+            return;
+        }
+        out.text(label).sep().text("Mean").sep().text("p50").sep().text("p99").sep().text("p99.9").sep()
+                .text("Max").endRow();
+        row(out, "TAT", turnAround);
+        row(out, "WT", waiting);
+    }
+
+    private static void row(TableSink out, String name, LatencyHistogram h) {
+        out.text(name).sep().text(String.format("%.2f", h.mean())).sep().number(h.percentile(50)).sep()
+                .number(h.percentile(99)).sep().number(h.percentile(99.9)).sep().number(h.max()).endRow();
+    }
+
+    private static void line(TableSink out, String name, LatencyHistogram h) {
+        out.line(name + ": mean = " + String.format("%.2f", h.mean()) + ", p50 = " + h.percentile(50) + ", p99 = "
+                + h.percentile(99) + ", p99.9 = " + h.percentile(99.9) + ", max = " + h.max());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+Segregated-fit allocator with size classes, in the style of the size-class front ends of production
+mallocs. A request is rounded up to its class - four classes per power of two, so at most a quarter
+of a block is wasted - and served from that class's free list, or else carved from the untouched
+top of memory. Freed blocks go back to their own class's list and are never split or merged, so
+allocate and free are O(1); the price is that free space held by one class cannot serve another.
+*/
+import java.util.Arrays;
+
+class SegregatedFitAllocator implements MemoryAllocator {
+    private static final int CLASSES = 116; // class sizes 1, 2, 3, 4, 5, 6, 7, 8, 10, 12, 14, 16, 20, ... 2^30
+    private static final int MAX_SIZE = 1 << 30;
+
+    private final int[][] freeList = new int[CLASSES][];
+    private final int[] freeCount = new int[CLASSES];
+    private int memorySize;
+    private int top; // memory below top has been carved into blocks
+    private long freeMemory;
+
+    public String name() {
+        return "Segregated Fit";
+    }
+
+    public void reset(int memorySize) {
+        this.memorySize = memorySize;
+        top = 0;
+        freeMemory = memorySize;
+        Arrays.fill(freeCount, 0);
+    }
+
+    public int allocate(int size) {
+        if (size > MAX_SIZE) return -1;
+        int c = sizeClass(size);
+        int blockSize = classSize(c);
+        int address;
+        if (freeCount[c] > 0) {
+            address = freeList[c][--freeCount[c]];
+        } else if (memorySize - top >= blockSize) {
+            address = top;
+            top += blockSize;
+        } else {
+            return -1;
+        }
+        freeMemory -= blockSize;
+        return address;
+    }
+
+    public void free(int address, int size) {
+        int c = sizeClass(size);
+        if (freeList[c] == null) {
+            freeList[c] = new int[16];
+        } else if (freeCount[c] == freeList[c].length) {
+            freeList[c] = Arrays.copyOf(freeList[c], freeCount[c] * 2);
+        }
+        freeList[c][freeCount[c]++] = address;
+        freeMemory += classSize(c);
+    }
+
+    public int reservedSize(int size) {
+        return size > MAX_SIZE ? size : classSize(sizeClass(size));
+    }
+
+    public long freeMemory() {
+        return freeMemory;
+    }
+
+    public int largestFreeBlock() {
+        int largest = memorySize - top;
+        for (int c = CLASSES - 1; c >= 0; c--) {
+            if (freeCount[c] > 0) {
+                return Math.max(largest, classSize(c));
+            }
+        }
+        return largest;
+    }
+
+    public int freeBlocks() {
+        int blocks = top < memorySize ? 1 : 0;
+        for (int c = 0; c < CLASSES; c++) blocks += freeCount[c];
+        return blocks;
+    }
+
+    // Classes 0-3 are sizes 1-4; above that each power-of-two range (2^k, 2^(k+1)] has four classes
+    // spaced 2^(k-2) apart.
+    static int sizeClass(int size) {
+        if (size <= 4) return Math.max(size, 1) - 1;
+        int k = 31 - Integer.numberOfLeadingZeros(size - 1);
+        int step = (size - 1) >> (k - 2); // 4..7
+        return 4 + (k - 2) * 4 + (step - 4);
+    }
+
+    static int classSize(int c) {
+        if (c < 4) return c + 1;
+        int k = (c - 4) / 4 + 2;
+        int step = (c - 4) % 4 + 4;
+        return (step + 1) << (k - 2);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+Event-driven CPU scheduling kernel shared by every Scheduler policy.
+The workload is read once; each policy then runs against the same in-memory arrays. Time only moves
+to the end of a slice or, when nothing is ready, straight to the next arrival, so a run costs
+O(n log n + slices) whatever the policy.
+*/
+import java.util.Arrays;
+import java.util.Scanner;
+
+class SimulationKernel {
+    public static void main(String[] args) {
+        Scanner sc = new Scanner(System.in);
+        Workload w = Workload.read(sc);
+        System.out.println("Enter time quantum for Round Robin.");
+        int tq = sc.nextInt();
+        Scheduler[] policies = {new FcfsPolicy(), new SjfPolicy(), new PriorityPolicy(), new RoundRobinPolicy(tq)};
+        TableSink out = TableSink.forStdout();
+        for (Scheduler policy : policies) {
+            SchedulingStats stats = new SchedulingStats();
+            run(w, policy, stats);
+            out.blankLine();
+            stats.print(out, policy.name());
+        }
+        out.close();
+    }
+
+    static ScheduleResult run(Workload w, Scheduler policy) {
+        int[] completionTime = new int[w.n];
+        run(w, policy, completionTime);
+        return new ScheduleResult(policy.name(), w, completionTime);
+    }
+
+    static void run(Workload w, Scheduler policy, int[] completionTime) {
+        run(w, policy, completionTime, null);
+    }
+
+    // Records each completion into stats instead of filling a completion time array.
+    static void run(Workload w, Scheduler policy, SchedulingStats stats) {
+        run(w, policy, null, null, stats);
+    }
+
+    // Same as above, also recording every slice into gantt when it is not null.
+    static void run(Workload w, Scheduler policy, SchedulingStats stats, GanttRecorder gantt) {
+        run(w, policy, null, gantt, stats);
+    }
+
+    // Fills completionTime, also recording every slice into gantt when it is not null.
+    static void run(Workload w, Scheduler policy, int[] completionTime, GanttRecorder gantt) {
+        run(w, policy, completionTime, gantt, null);
+    }
+
+    private static void run(Workload w, Scheduler policy, int[] completionTime, GanttRecorder gantt,
+                            SchedulingStats stats) {
+        int n = w.n;
+        int[] arrivalTime = w.arrivalTime;
+        int[] order = w.order.clone(); // admission batches are re-sorted in place
+        int[] remaining = w.burstTime.clone();
+        policy.reset(w);
+        int time = 0, completed = 0, next = 0;
+        while (completed < n) {
+            next = admit(order, next, arrivalTime, time, policy);
+            if (policy.isEmpty()) {
+                time = arrivalTime[order[next]];
+                continue;
+            }
+            int p = policy.dispatch(time);
+            int nextArrival = next < n ? arrivalTime[order[next]] : Integer.MAX_VALUE;
+            int run = Math.min(policy.slice(p, remaining[p], time, nextArrival), remaining[p]);
+            remaining[p] -= run;
+            if (gantt != null) gantt.record(p, time, time + run);
+            time += run;
+            next = admit(order, next, arrivalTime, time, policy);
+            if (remaining[p] > 0) {
+                policy.preempted(p, remaining[p]);
+            } else {
+                if (completionTime != null) completionTime[p] = time;
+                if (stats != null) stats.record(arrivalTime[p], w.burstTime[p], time);
+                completed++;
+            }
+        }
+    }
+
+    // Admits every process that has arrived by the given time, in index order, and returns the advanced cursor.
+    private static int admit(int[] order, int next, int[] arrivalTime, int time, Scheduler policy) {
+        int end = next;
+        while (end < order.length && arrivalTime[order[end]] <= time) end++;
+        if (end - next > 1) Arrays.sort(order, next, end);
+        for (int k = next; k < end; k++) policy.admit(order[k]);
+        return end;
+    }
+}
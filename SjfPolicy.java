@@ -0,0 +1,38 @@
+/*
+Preemptive Shortest Job First as a Scheduler policy.
+Ready processes are ordered by (remaining time, index). The running process can only be overtaken by
+an arrival, so each slice ends at the next arrival and the kernel never steps one tick at a time.
+*/
+class SjfPolicy implements Scheduler {
+    private Workload w;
+    private LongHeap ready;
+
+    public String name() {
+        return "SJF";
+    }
+
+    public void reset(Workload w) {
+        this.w = w;
+        ready = new LongHeap(w.n, w.sequence);
+    }
+
+    public void admit(int p) {
+        ready.push(LongHeap.pack(w.burstTime[p], p));
+    }
+
+    public boolean isEmpty() {
+        return ready.isEmpty();
+    }
+
+    public int dispatch(int now) {
+        return LongHeap.index(ready.pop());
+    }
+
+    public int slice(int p, int remaining, int now, int nextArrival) {
+        return nextArrival == Integer.MAX_VALUE ? remaining : Math.min(remaining, nextArrival - now);
+    }
+
+    public void preempted(int p, int remaining) {
+        ready.push(LongHeap.pack(remaining, p));
+    }
+}
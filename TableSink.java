@@ -0,0 +1,152 @@
+/*
+Buffered output for the per-process and per-block result tables.
+Rows are formatted straight into a reusable byte buffer and written out in 64 KB chunks instead of
+building a String per row and calling System.out.println for each one. The format comes from the
+table.format system property (java -Dtable.format=csv ...):
+  tsv     - the console tables exactly as the programs have always printed them (default);
+  csv     - the same rows with comma separators and no alignment padding;
+  binary  - only the numeric cells, each as a little-endian long, with no text or separators;
+  summary - no per-row table at all, only the summary lines such as the averages.
+*/
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+class TableSink implements AutoCloseable {
+    enum Format { TSV, CSV, BINARY, SUMMARY }
+
+    private final OutputStream out;
+    private final Format format;
+    private final byte[] buf = new byte[1 << 16];
+    private final byte[] digits = new byte[20];
+    private int pos;
+
+    TableSink(OutputStream out, Format format) {
+        this.out = out;
+        this.format = format;
+    }
+
+    static TableSink forStdout() {
+        String f = System.getProperty("table.format", "tsv");
+        return new TableSink(System.out, Format.valueOf(f.toUpperCase()));
+    }
+
+    // True for the tsv console layout, which some tables render differently from csv and binary.
+    boolean isConsole() {
+        return format == Format.TSV;
+    }
+
+    boolean writesRows() {
+        return format != Format.SUMMARY;
+    }
+
+    TableSink text(String s) {
+        if (format == Format.TSV || format == Format.CSV) {
+            for (int i = 0; i < s.length(); i++) {
+                put((byte) s.charAt(i));
+            }
+        }
+        return this;
+    }
+
+    TableSink number(long v) {
+        switch (format) {
+            case TSV:
+            case CSV:
+                putDecimal(v);
+                break;
+            case BINARY:
+                for (int i = 0; i < 8; i++) {
+                    put((byte) (v >>> (8 * i)));
+                }
+                break;
+            default:
+                break;
+        }
+        return this;
+    }
+
+    // A cell the console table shows as text, such as "Not Allocated"; binary writes -1 in its place.
+    TableSink missing(String s) {
+        return format == Format.BINARY ? number(-1) : text(s);
+    }
+
+    // Column separator.
+    TableSink sep() {
+        return sep("\t");
+    }
+
+    // Column separator that the tsv console layout renders as the given text, e.g. " -> Remaining Size: ".
+    TableSink sep(String consoleText) {
+        if (format == Format.TSV) text(consoleText);
+        else if (format == Format.CSV) put((byte) ',');
+        return this;
+    }
+
+    // Extra tab some console tables use to line columns up; not a column of its own.
+    TableSink pad() {
+        if (format == Format.TSV) put((byte) '\t');
+        return this;
+    }
+
+    // Blank spacer line in the console layout; tsv only.
+    TableSink blankLine() {
+        if (format == Format.TSV) put((byte) '\n');
+        return this;
+    }
+
+    // Title line above a console table; tsv only.
+    TableSink caption(String s) {
+        if (format == Format.TSV) line(s);
+        return this;
+    }
+
+    void endRow() {
+        if (format == Format.TSV || format == Format.CSV) put((byte) '\n');
+    }
+
+    // A summary line outside the table; written in every format except binary.
+    void line(String s) {
+        if (format == Format.BINARY) return;
+        for (int i = 0; i < s.length(); i++) {
+            put((byte) s.charAt(i));
+        }
+        put((byte) '\n');
+    }
+
+    void flush() {
+        try {
+            out.write(buf, 0, pos);
+            out.flush();
+            pos = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void close() {
+        flush();
+    }
+
+    private void putDecimal(long v) {
+        if (v == Long.MIN_VALUE) {
+            text(Long.toString(v));
+            return;
+        }
+        if (v < 0) {
+            put((byte) '-');
+            v = -v;
+        }
+        int d = digits.length;
+        do {
+            digits[--d] = (byte) ('0' + v % 10);
+            v /= 10;
+        } while (v != 0);
+        while (d < digits.length) put(digits[d++]);
+    }
+
+    private void put(byte b) {
+        if (pos == buf.length) flush();
+        buf[pos++] = b;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+Non-interactive process trace input for the schedulers.
+A trace is a list of (pid, arrival, burst, priority) records in one of two formats:
+  binary - the int MAGIC, then the record count, then four little-endian ints per record;
+  CSV    - one "pid,arrival,burst,priority" line per record, with an optional header line.
+Binary traces are read through a memory-mapped FileChannel and CSV through a buffered byte parser, so
+neither path creates a String or a boxed Integer per token. The result is a Workload whose arrays can
+be passed straight to SimulationKernel with any Scheduler policy.
+
+Two more binary layouts hold the other simulators' inputs (all little-endian ints):
+  MEMORY_MAGIC, m, m block sizes, n, n process sizes - for FirstFit, BestFit, NextFit and WorstFit;
+  PAGES_MAGIC, n, n page numbers                      - a page reference string;
+  EVENTS_MAGIC, memory size, n, n (request, size) pairs  - an AllocationTrace for DynamicAllocation.
+*/
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+class TraceFile {
+    static final int MAGIC = 0x44484353; // "SCHD"
+    static final int MEMORY_MAGIC = 0x434f4c41; // "ALOC"
+    static final int PAGES_MAGIC = 0x45474150; // "PAGE"
+    static final int EVENTS_MAGIC = 0x544e5645; // "EVNT"
+    static final int RECORD_BYTES = 16;
+    private static final long MAX_MAPPING = (Integer.MAX_VALUE / RECORD_BYTES) * (long) RECORD_BYTES;
+
+    // Converts a CSV trace to the binary format: java TraceFile input.csv output.bin
+    public static void main(String[] args) throws IOException {
+        Workload w = read(Paths.get(args[0]));
+        write(Paths.get(args[1]), w);
+        System.out.println("Wrote " + w.n + " processes to " + args[1]);
+    }
+
+    // Reads a binary or CSV trace, telling them apart by the leading magic number.
+    static Workload read(Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (ch.size() >= 8 && readInt(ch, 0) == MAGIC) {
+                return readBinary(ch);
+            }
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            return readCsv(in);
+        }
+    }
+
+    private static Workload readBinary(FileChannel ch) throws IOException {
+        int n = readInt(ch, 4);
+        long expected = 8 + (long) n * RECORD_BYTES;
+        if (n < 0 || ch.size() < expected) {
+            throw new IOException("Truncated trace: expected " + expected + " bytes, found " + ch.size());
+        }
+        int[] pid = new int[n], arrival = new int[n], burst = new int[n], priority = new int[n];
+        int i = 0;
+        for (long pos = 8; i < n; ) {
+            long len = Math.min(MAX_MAPPING, expected - pos);
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, pos, len);
+            map.order(ByteOrder.LITTLE_ENDIAN);
+            for (int end = i + (int) (len / RECORD_BYTES); i < end; i++) {
+                pid[i] = map.getInt();
+                arrival[i] = map.getInt();
+                burst[i] = map.getInt();
+                priority[i] = map.getInt();
+            }
+            pos += len;
+        }
+        return new Workload(pid, arrival, burst, priority);
+    }
+
+    // Returns {blockSize, processSize}.
+    static int[][] readMemory(Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            expectMagic(ch, MEMORY_MAGIC, path);
+            int m = readInt(ch, 4);
+            int[] blockSize = readInts(ch, 8, m);
+            long pos = 8 + 4L * m;
+            int n = readInt(ch, pos);
+            int[] processSize = readInts(ch, pos + 4, n);
+            return new int[][] {blockSize, processSize};
+        }
+    }
+
+    static int[] readPages(Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            expectMagic(ch, PAGES_MAGIC, path);
+            return readInts(ch, 8, readInt(ch, 4));
+        }
+    }
+
+    static AllocationTrace readEvents(Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            expectMagic(ch, EVENTS_MAGIC, path);
+            int memorySize = readInt(ch, 4);
+            int n = readInt(ch, 8);
+            if (n < 0 || n > Integer.MAX_VALUE / 2) {
+                throw new IOException(path + " has an invalid event count " + n);
+            }
+            int[] pairs = readInts(ch, 12, 2 * n);
+            int[] request = new int[n], size = new int[n];
+            for (int e = 0; e < n; e++) {
+                request[e] = pairs[2 * e];
+                size[e] = pairs[2 * e + 1];
+            }
+            return new AllocationTrace(memorySize, request, size);
+        }
+    }
+
+    static void writeMemory(Path path, int[] blockSize, int[] processSize) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            writeInts(out, MEMORY_MAGIC, blockSize.length);
+            writeInts(out, blockSize);
+            writeInts(out, processSize.length);
+            writeInts(out, processSize);
+        }
+    }
+
+    static void writePages(Path path, int[] pages) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            writeInts(out, PAGES_MAGIC, pages.length);
+            writeInts(out, pages);
+        }
+    }
+
+    static void writeEvents(Path path, AllocationTrace t) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            writeInts(out, EVENTS_MAGIC, t.memorySize, t.events);
+            int[] pairs = new int[2 * t.events];
+            for (int e = 0; e < t.events; e++) {
+                pairs[2 * e] = t.request[e];
+                pairs[2 * e + 1] = t.size[e];
+            }
+            writeInts(out, pairs);
+        }
+    }
+
+    private static void expectMagic(FileChannel ch, int magic, Path path) throws IOException {
+        if (ch.size() < 8 || readInt(ch, 0) != magic) {
+            throw new IOException(path + " is not a trace of the expected kind");
+        }
+    }
+
+    // Bulk-reads count ints starting at pos through memory-mapped windows.
+    private static int[] readInts(FileChannel ch, long pos, int count) throws IOException {
+        if (count < 0 || ch.size() < pos + 4L * count) {
+            throw new IOException("Truncated trace: expected " + (pos + 4L * count) + " bytes, found " + ch.size());
+        }
+        int[] values = new int[count];
+        for (int done = 0; done < count; ) {
+            int chunk = Math.min(count - done, 1 << 28);
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, pos + 4L * done, 4L * chunk);
+            map.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(values, done, chunk);
+            done += chunk;
+        }
+        return values;
+    }
+
+    private static void writeInts(OutputStream out, int... values) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        for (int v : values) {
+            if (!buf.hasRemaining()) {
+                out.write(buf.array(), 0, buf.position());
+                buf.clear();
+            }
+            buf.putInt(v);
+        }
+        out.write(buf.array(), 0, buf.position());
+    }
+
+    private static int readInt(FileChannel ch, long pos) throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        while (b.hasRemaining()) {
+            if (ch.read(b, pos + b.position()) < 0) throw new EOFException("Trace ends inside its header");
+        }
+        return b.getInt(0);
+    }
+
+    private static Workload readCsv(InputStream in) throws IOException {
+        byte[] buf = new byte[1 << 16];
+        int[][] cols = new int[4][1024];
+        int[] record = new int[4];
+        int n = 0, field = 0, value = 0;
+        boolean negative = false, digits = false, skipLine = false;
+        for (int len; (len = in.read(buf)) > 0; ) {
+            for (int pos = 0; pos < len; pos++) {
+                byte b = buf[pos];
+                if (b == '\n') {
+                    if (!skipLine && (field > 0 || digits)) {
+                        if (field < 4) record[field] = negative ? -value : value;
+                        n = add(cols, n, record, field + 1);
+                    }
+                    field = value = 0;
+                    negative = digits = skipLine = false;
+                } else if (skipLine || b == '\r' || b == ' ' || b == '\t') {
+                    continue;
+                } else if (b >= '0' && b <= '9') {
+                    value = value * 10 + (b - '0');
+                    digits = true;
+                } else if (b == '-' && !digits) {
+                    negative = true;
+                } else if (b == ',') {
+                    if (field < 4) record[field] = negative ? -value : value;
+                    field++;
+                    value = 0;
+                    negative = digits = false;
+                } else if (field == 0 && !digits) {
+                    skipLine = true; // header or comment line
+                } else {
+                    throw new IOException("Unexpected '" + (char) b + "' in record " + (n + 1));
+                }
+            }
+        }
+        if (!skipLine && (field > 0 || digits)) {
+            if (field < 4) record[field] = negative ? -value : value;
+            n = add(cols, n, record, field + 1);
+        }
+        return new Workload(Arrays.copyOf(cols[0], n), Arrays.copyOf(cols[1], n), Arrays.copyOf(cols[2], n),
+                Arrays.copyOf(cols[3], n));
+    }
+
+    // Appends one parsed CSV record; a missing priority column defaults to 0.
+    private static int add(int[][] cols, int n, int[] record, int fields) throws IOException {
+        if (fields < 3) throw new IOException("Record " + (n + 1) + " needs at least pid, arrival and burst");
+        if (n == cols[0].length) {
+            for (int c = 0; c < cols.length; c++) {
+                cols[c] = Arrays.copyOf(cols[c], n * 2);
+            }
+        }
+        cols[0][n] = record[0];
+        cols[1][n] = record[1];
+        cols[2][n] = record[2];
+        cols[3][n] = fields > 3 ? record[3] : 0;
+        return n + 1;
+    }
+
+    static void write(Path path, Workload w) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            ByteBuffer rec = ByteBuffer.allocate(RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            rec.putInt(MAGIC).putInt(w.n);
+            out.write(rec.array(), 0, 8);
+            for (int i = 0; i < w.n; i++) {
+                rec.clear();
+                rec.putInt(w.processId[i]).putInt(w.arrivalTime[i]).putInt(w.burstTime[i]).putInt(w.priority[i]);
+                out.write(rec.array());
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+A CPU scheduling workload loaded once into primitive arrays.
+The arrays are never written after construction, so one Workload can be handed to any number of
+Scheduler policies (including concurrently) through SimulationKernel without re-reading the input.
+The one exception is the private slot table of an OnlineScheduler, which reuses entries as processes
+complete. Its slot numbers say nothing about submission order, so it also carries a sequence array, and
+policies break ties on that rather than on the index.
+*/
+import java.util.Scanner;
+
+class Workload {
+    final int n;
+    final int[] processId;
+    final int[] arrivalTime;
+    final int[] burstTime;
+    final int[] priority;
+    final int[] order; // process indices sorted by arrival, ties in input order
+    final long[] sequence; // tie-break order of each index, or null when it is the index itself
+
+    Workload(int[] arrivalTime, int[] burstTime, int[] priority) {
+        this(null, arrivalTime, burstTime, priority);
+    }
+
+    Workload(int[] processId, int[] arrivalTime, int[] burstTime, int[] priority) {
+        this(processId, arrivalTime, burstTime, priority, null);
+    }
+
+    Workload(int[] processId, int[] arrivalTime, int[] burstTime, int[] priority, long[] sequence) {
+        this.n = arrivalTime.length;
+        if (processId == null) {
+            processId = new int[n];
+            for (int i = 0; i < n; i++) {
+                processId[i] = i + 1;
+            }
+        }
+        this.processId = processId;
+        this.arrivalTime = arrivalTime;
+        this.burstTime = burstTime;
+        this.priority = priority != null ? priority : new int[n];
+        this.order = ArrivalIndex.order(arrivalTime);
+        this.sequence = sequence;
+    }
+
+    // Reads the process count followed by arrival time, burst time and priority for each process.
+    static Workload read(Scanner sc) {
+        System.out.println("Enter number of processes.");
+        int n = sc.nextInt();
+        int[] arrivalTime = new int[n];
+        int[] burstTime = new int[n];
+        int[] priority = new int[n];
+        for (int i = 0; i < n; i++) {
+            System.out.println("Enter arrival time, burst time and priority for p" + (i + 1));
+            arrivalTime[i] = sc.nextInt();
+            burstTime[i] = sc.nextInt();
+            priority[i] = sc.nextInt();
+        }
+        return new Workload(arrivalTime, burstTime, priority);
+    }
+}
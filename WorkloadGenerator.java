@@ -0,0 +1,150 @@
+/*
+Seeded generator of large, reproducible inputs for the simulators, written in the TraceFile formats.
+  processes - Poisson arrivals, Pareto-distributed bursts and a weighted priority mix, for the schedulers;
+  memory    - uniform block sizes and Pareto-distributed process sizes, for the fit allocators;
+  pages     - a page reference string that moves through working-set phases, with Zipf-distributed
+              references inside each working set, for the page replacement programs;
+  events    - interleaved allocate and free events with Pareto-distributed sizes, for DynamicAllocation.
+Usage: java WorkloadGenerator processes|memory|pages|events <count> <seed> <output file>
+The same seed and parameters always give the same file.
+*/
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+class WorkloadGenerator {
+    private final Random rnd;
+
+    // Scheduler traces
+    double meanInterArrival = 10;
+    double burstScale = 2;              // Pareto minimum burst
+    double burstShape = 1.5;            // Pareto tail index; smaller means heavier tail
+    int maxBurst = 1_000_000;
+    int[] priorityWeights = {1, 2, 4, 2, 1};
+
+    // Allocator inputs
+    int minBlock = 100;
+    int maxBlock = 1000;
+    double sizeScale = 50;
+    double sizeShape = 1.8;
+
+    // Allocation event traces
+    int memorySize = 1 << 20;
+    double allocateShare = 0.55;        // fraction of events that allocate while blocks are live
+
+    // Page reference strings
+    int pageCount = 1 << 16;
+    int workingSet = 64;
+    int phaseLength = 10_000;
+    double zipfExponent = 1.0;
+
+    WorkloadGenerator(long seed) {
+        rnd = new Random(seed);
+    }
+
+    public static void main(String[] args) throws IOException {
+        String kind = args[0];
+        int count = Integer.parseInt(args[1]);
+        WorkloadGenerator g = new WorkloadGenerator(Long.parseLong(args[2]));
+        Path out = Paths.get(args[3]);
+        switch (kind) {
+            case "processes":
+                TraceFile.write(out, g.processes(count));
+                break;
+            case "memory":
+                TraceFile.writeMemory(out, g.blockSizes(count), g.processSizes(count));
+                break;
+            case "pages":
+                TraceFile.writePages(out, g.pageReferences(count));
+                break;
+            case "events":
+                TraceFile.writeEvents(out, g.events(count));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown input kind " + kind);
+        }
+    }
+
+    Workload processes(int n) {
+        int[] arrival = new int[n];
+        int[] burst = new int[n];
+        int[] priority = new int[n];
+        int totalWeight = 0;
+        for (int weight : priorityWeights) totalWeight += weight;
+        double t = 0;
+        for (int i = 0; i < n; i++) {
+            t += -Math.log(1 - rnd.nextDouble()) * meanInterArrival;
+            arrival[i] = (int) Math.min(t, Integer.MAX_VALUE);
+            burst[i] = pareto(burstScale, burstShape, maxBurst);
+            int pick = rnd.nextInt(totalWeight), level = 0;
+            while (pick >= priorityWeights[level]) {
+                pick -= priorityWeights[level++];
+            }
+            priority[i] = level;
+        }
+        return new Workload(arrival, burst, priority);
+    }
+
+    int[] blockSizes(int m) {
+        int[] size = new int[m];
+        for (int i = 0; i < m; i++) {
+            size[i] = minBlock + rnd.nextInt(maxBlock - minBlock + 1);
+        }
+        return size;
+    }
+
+    int[] processSizes(int n) {
+        int[] size = new int[n];
+        for (int i = 0; i < n; i++) {
+            size[i] = pareto(sizeScale, sizeShape, maxBlock);
+        }
+        return size;
+    }
+
+    // Frees pick a uniformly random live request, so blocks are released in no particular order.
+    AllocationTrace events(int n) {
+        int[] request = new int[n];
+        int[] size = new int[n];
+        int[] live = new int[n];
+        int liveCount = 0, next = 0;
+        for (int e = 0; e < n; e++) {
+            if (liveCount == 0 || rnd.nextDouble() < allocateShare) {
+                request[e] = next;
+                size[e] = pareto(sizeScale, sizeShape, maxBlock);
+                live[liveCount++] = next++;
+            } else {
+                int k = rnd.nextInt(liveCount);
+                request[e] = live[k];
+                size[e] = AllocationTrace.FREE;
+                live[k] = live[--liveCount];
+            }
+        }
+        return new AllocationTrace(memorySize, request, size);
+    }
+
+    // Each phase of phaseLength references stays inside one window of workingSet consecutive pages,
+    // where the rank-k page of the window is referenced with probability proportional to 1/k^zipfExponent.
+    int[] pageReferences(int n) {
+        double[] cdf = new double[workingSet];
+        double total = 0;
+        for (int k = 0; k < workingSet; k++) {
+            total += 1 / Math.pow(k + 1, zipfExponent);
+            cdf[k] = total;
+        }
+        int[] pages = new int[n];
+        int base = 0;
+        for (int i = 0; i < n; i++) {
+            if (i % phaseLength == 0) base = rnd.nextInt(pageCount);
+            int rank = java.util.Arrays.binarySearch(cdf, rnd.nextDouble() * total);
+            if (rank < 0) rank = -rank - 1;
+            pages[i] = (base + Math.min(rank, workingSet - 1)) % pageCount;
+        }
+        return pages;
+    }
+
+    private int pareto(double scale, double shape, int cap) {
+        double v = scale / Math.pow(1 - rnd.nextDouble(), 1 / shape);
+        return (int) Math.min(Math.ceil(v), cap);
+    }
+}
@@ -4,11 +4,47 @@ Write a program to simulate Worst Fit memory allocation strategy.
 The program should allocate each process to the largest available memory block.
 Display the memory allocation results and any unused space.
 */
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
 public class WorstFit {
-    public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
+    // With an input file argument (see TraceFile.readMemory) the sizes are read from it instead of the prompts.
+    public static void main(String[] args) throws IOException {
+        int[][] input = args.length > 0 ? TraceFile.readMemory(Paths.get(args[0])) : readInput(new Scanner(System.in));
+        int[] blockSize = input[0];
+        int[] processSize = input[1];
+        int n = processSize.length;
+        int[] allocation = new int[n];
+        allocate(blockSize, processSize, allocation);
+        System.out.println("\nProcess No.\tProcess Size\tBlock No.\tRemaining Space");
+        for (int i = 0; i < n; i++) {
+            if (allocation[i] != -1)
+                System.out.println((i + 1) + "\t\t" + processSize[i] + "\t\t" + (allocation[i] + 1) + "\t\t" + blockSize[allocation[i]]);
+            else
+                System.out.println((i + 1) + "\t\t" + processSize[i] + "\t\tNot Allocated\t-");
+        }
+    }
+
+    // Indexed engine: a max segment tree over the remaining block sizes gives the largest remainder at the
+    // root, and the lowest-indexed block holding it is found by descending the tree, the same tie-break as
+    // a scan over every block. Blocks stay usable after an allocation, so the leaf is updated to the new
+    // remainder, O(m + n log m).
+    static void allocate(int[] blockSize, int[] processSize, int[] allocation) {
+        MaxSegmentTree remaining = new MaxSegmentTree(blockSize);
+        for (int i = 0; i < processSize.length; i++) {
+            if (blockSize.length == 0 || remaining.max() < processSize[i]) {
+                allocation[i] = -1;
+                continue;
+            }
+            int worstIdx = remaining.firstAtLeast(remaining.max());
+            allocation[i] = worstIdx;
+            blockSize[worstIdx] -= processSize[i];
+            remaining.set(worstIdx, blockSize[worstIdx]);
+        }
+    }
+
+    static int[][] readInput(Scanner sc) {
         System.out.print("Enter number of memory blocks: ");
         int m = sc.nextInt();
         int[] blockSize = new int[m];
@@ -23,29 +59,7 @@ public class WorstFit {
         for (int i = 0; i < n; i++) {
             processSize[i] = sc.nextInt();
         }
-        int[] allocation = new int[n];
-        for (int i = 0; i < n; i++) allocation[i] = -1;
-        for (int i = 0; i < n; i++) {
-            int worstIdx = -1;
-            for (int j = 0; j < m; j++) {
-                if (blockSize[j] >= processSize[i]) {
-                    if (worstIdx == -1 || blockSize[j] > blockSize[worstIdx]) {
-                        worstIdx = j;
-                    }
-                }
-            }
-            if (worstIdx != -1) {
-                allocation[i] = worstIdx;
-                blockSize[worstIdx] -= processSize[i];
-            }
-        }
-        System.out.println("\nProcess No.\tProcess Size\tBlock No.\tRemaining Space");
-        for (int i = 0; i < n; i++) {
-            if (allocation[i] != -1)
-                System.out.println((i + 1) + "\t\t" + processSize[i] + "\t\t" + (allocation[i] + 1) + "\t\t" + blockSize[allocation[i]]);
-            else
-                System.out.println((i + 1) + "\t\t" + processSize[i] + "\t\tNot Allocated\t-");
-        }
         sc.close();
+        return new int[][] {blockSize, processSize};
     }
 }
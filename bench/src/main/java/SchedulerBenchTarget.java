@@ -0,0 +1,71 @@
+/*
+Default-package bridge between the JMH benchmarks and the simulators.
+JMH refuses benchmark classes in the default package, and a named package cannot refer to the
+default-package simulator classes. bench.SchedulerBenchmark therefore loads this class once per trial
+by name and calls it only through java.util.function.Supplier.
+*/
+import java.util.Random;
+import java.util.function.Supplier;
+
+public class SchedulerBenchTarget implements Supplier<Object> {
+    private final Workload workload;
+    private final String policy;
+    private final int quantum;
+
+    // distribution: uniform (bursts 1..20), bursty (arrivals in tight clusters) or heavy (Pareto bursts).
+    public SchedulerBenchTarget(int processes, String distribution, String policy, int quantum) {
+        this.workload = generate(processes, distribution, new Random(42));
+        this.policy = policy;
+        this.quantum = quantum;
+    }
+
+    // One full simulation; returns the SchedulingStats so JMH consumes the result.
+    public Object get() {
+        SchedulingStats stats = new SchedulingStats();
+        SimulationKernel.run(workload, newPolicy(), stats);
+        return stats;
+    }
+
+    private Scheduler newPolicy() {
+        switch (policy) {
+            case "fcfs":
+                return new FcfsPolicy();
+            case "sjf":
+                return new SjfPolicy();
+            case "priority":
+                return new PriorityPolicy();
+            case "rr":
+                return new RoundRobinPolicy(quantum);
+            default:
+                throw new IllegalArgumentException("Unknown policy " + policy);
+        }
+    }
+
+    private static Workload generate(int n, String distribution, Random rnd) {
+        int[] arrival = new int[n];
+        int[] burst = new int[n];
+        int[] priority = new int[n];
+        int t = 0;
+        for (int i = 0; i < n; i++) {
+            switch (distribution) {
+                case "bursty":
+                    t += (i % 1000 == 0) ? 10000 : rnd.nextInt(2);
+                    burst[i] = 1 + rnd.nextInt(20);
+                    break;
+                case "heavy":
+                    t += rnd.nextInt(20);
+                    burst[i] = (int) Math.min(1_000_000, Math.ceil(Math.pow(1 - rnd.nextDouble(), -1 / 1.5)));
+                    break;
+                case "uniform":
+                    t += rnd.nextInt(20);
+                    burst[i] = 1 + rnd.nextInt(20);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution " + distribution);
+            }
+            arrival[i] = t;
+            priority[i] = rnd.nextInt(10);
+        }
+        return new Workload(arrival, burst, priority);
+    }
+}
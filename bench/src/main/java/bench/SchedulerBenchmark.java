@@ -0,0 +1,59 @@
+/*
+JMH benchmarks for the CPU scheduling policies, run through SimulationKernel with no Scanner or stdout.
+Build and run from the bench directory, with the GC profiler for allocation rates:
+    mvn package
+    java -jar target/benchmarks.jar -prof gc
+Narrow a run with JMH parameters, e.g. -p processes=1000 -p policy=sjf. The 10^7 runs need a large heap.
+*/
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class SchedulerBenchmark {
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int processes;
+
+    @Param({"uniform", "bursty", "heavy"})
+    public String distribution;
+
+    @Param({"fcfs", "sjf", "priority", "rr"})
+    public String policy;
+
+    @Param({"4"})
+    public int quantum;
+
+    private Supplier<Object> target;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws ReflectiveOperationException {
+        target = (Supplier<Object>) Class.forName("SchedulerBenchTarget")
+                .getConstructor(int.class, String.class, String.class, int.class)
+                .newInstance(processes, distribution, policy, quantum);
+    }
+
+    @Benchmark
+    public Object simulate() {
+        return target.get();
+    }
+}
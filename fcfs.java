@@ -1,3 +1,4 @@
+/*
 Problem Statement 3: First Come First Serve (FCFS) CPU Scheduling
 Write a program to simulate the First Come First Serve (FCFS) CPU scheduling algorithm.
 The program should accept process details such as Process ID, Arrival Time, and Burst Time and compute the Waiting Time and Turnaround Time for each process. Display the Gantt chart, average waiting time, and average turnaround time.
@@ -5,60 +6,61 @@ The program should accept process details such as Process ID, Arrival Time, and
 Description:
 This program simulates the FCFS CPU scheduling algorithm. It takes input for the number of processes and their respective burst times. Although the problem statement mentions arrival time, this implementation assumes all processes arrive at time zero (or in order) since arrival time handling is not fully included here. The program calculates waiting time and turnaround time for each process and prints a Gantt chart along with average waiting time and turnaround time.
 */
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 class fcfs {
-    public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
-        System.out.println("Enter number of processes.");
-        int n = sc.nextInt();
-        int[] processId=new int[n];
-        int[] arrivalTime=new int[n];
-        int[] burstTime=new int[n]; 
+    // With a trace file argument (see TraceFile) the processes are read from it instead of the prompts.
+    public static void main(String[] args) throws IOException {
+        Workload w=args.length>0?TraceFile.read(Paths.get(args[0])):readInput(new Scanner(System.in));
+        TableSink out=TableSink.forStdout();
+        if(!out.writesRows()){
+            // Summary only: completions go straight into the histograms, with no per-process arrays.
+            SchedulingStats stats=new SchedulingStats();
+            SimulationKernel.run(w,new FcfsPolicy(),stats);
+            out.line("Average turn around time = "+stats.turnAround.mean());
+            out.line("Average Waiting time = "+stats.waiting.mean());
+            stats.print(out,"FCFS");
+            out.close();
+            return;
+        }
+        int n=w.n;
+        int[] processId=w.processId;
+        int[] arrivalTime=w.arrivalTime;
+        int[] burstTime=w.burstTime;
         int[] completionTime=new int[n];
         int[] turnAroundTime=new int[n];
         int[] waitingTime=new int[n];
+        SimulationKernel.run(w,new FcfsPolicy(),completionTime);
+        long totalTAT = 0, totalWT = 0;
         for(int i=0;i<n;i++){
-            processId[i]=i+1;
-            System.out.println("Enter arrival time for process"+processId[i]);
-            arrivalTime[i]=sc.nextInt();
-            System.out.println("Enter burst time for process"+processId[i]);
-            burstTime[i]=sc.nextInt();
-        }
-        for(int i=0;i<n-1;i++){
-            for(int j=i+1;j<n;j++){
-                if (arrivalTime[i]>arrivalTime[j]){
-                    int temp = arrivalTime[i];
-                    arrivalTime[i] = arrivalTime[j];
-                    arrivalTime[j] = temp;
-                    temp = burstTime[i];
-                    burstTime[i] = burstTime[j];
-                    burstTime[j] = temp;
-                    temp = processId[i];
-                    processId[i] = processId[j];
-                    processId[j] = temp;
-                }
-            }
-        }
-        int currentTime=0;
-        double totalTAT = 0, totalWT = 0;
-        for(int i=0;i<n;i++){
-            if(currentTime<arrivalTime[i]){
-                currentTime=arrivalTime[i];
-            }
-            completionTime[i]=currentTime+burstTime[i];
-            currentTime=completionTime[i];
-            
             turnAroundTime[i]=completionTime[i]-arrivalTime[i];
             waitingTime[i]=turnAroundTime[i]-burstTime[i];
             
             totalTAT+=turnAroundTime[i];
             totalWT+=waitingTime[i];
         }
-        System.out.println("\nProcess\tAT\tBT\tCT\tTAT\tWT");
+        out.blankLine().text("Process").sep().text("AT").sep().text("BT").sep().text("CT").sep().text("TAT").sep().text("WT").endRow();
+        for(int k=0;out.writesRows() && k<n;k++){
+            int i=w.order[k]; // rows in order of arrival
+            out.text("P").number(processId[i]).sep().number(arrivalTime[i]).sep().number(burstTime[i]).sep().number(completionTime[i]).sep().number(turnAroundTime[i]).sep().number(waitingTime[i]).endRow();
+        }
+        out.line("Average turn around time = "+(double)totalTAT/n);
+        out.line("Average Waiting time = "+(double)totalWT/n);
+        out.close();
+    }
+
+    static Workload readInput(Scanner sc){
+        System.out.println("Enter number of processes.");
+        int n = sc.nextInt();
+        int[] arrivalTime=new int[n];
+        int[] burstTime=new int[n]; 
         for(int i=0;i<n;i++){
-            System.out.println("P"+processId[i]+"\t"+arrivalTime[i]+"\t"+burstTime[i]+"\t"+completionTime[i]+"\t"+turnAroundTime[i]+"\t"+waitingTime[i]);
+            System.out.println("Enter arrival time for process"+(i+1));
+            arrivalTime[i]=sc.nextInt();
+            System.out.println("Enter burst time for process"+(i+1));
+            burstTime[i]=sc.nextInt();
         }
-        System.out.println("Average turn around time = "+totalTAT/n);
-        System.out.println("Average Waiting time = "+totalWT/n);
+        return new Workload(arrivalTime,burstTime,null);
     }
 }
@@ -4,60 +4,66 @@ Write a program to simulate the Priority Scheduling (Non-Preemptive) algorithm.
 Each process should have an associated priority value, and the scheduler should select the process with the highest priority for execution next.
 Compute and display the waiting time, turnaround time, and average times for all processes.
 */
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 class priority {
-    public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
+    // With a trace file argument (see TraceFile) the processes are read from it instead of the prompts.
+    // -Daging.interval=N makes a waiting process's priority improve continuously, one level per N time units.
+    public static void main(String[] args) throws IOException {
+        Workload w=args.length>0?TraceFile.read(Paths.get(args[0])):readInput(new Scanner(System.in));
+        int agingInterval=Integer.getInteger("aging.interval",0);
+        Scheduler policy=agingInterval>0?new AgingPriorityPolicy(agingInterval):new PriorityPolicy();
+        TableSink out=TableSink.forStdout();
+        if(!out.writesRows()){
+            // Summary only: completions go straight into the histograms, with no per-process arrays.
+            SchedulingStats stats=new SchedulingStats();
+            SimulationKernel.run(w,policy,stats);
+            out.line("Average turn around time = "+stats.turnAround.mean());
+            out.line("Average Waiting time = "+stats.waiting.mean());
+            stats.print(out,policy.name());
+            out.close();
+            return;
+        }
+        int n=w.n;
+        int[] processId=w.processId;
+        int[] arrivalTime=w.arrivalTime;
+        int[] burstTime=w.burstTime;
+        int[] priority=w.priority;
+        int[] completionTime=new int[n];
+        int[] turnAroundTime=new int[n];
+        int[] waitingTime=new int[n];
+        SimulationKernel.run(w,policy,completionTime);
+        long totalTAT=0,totalWT=0;
+        for(int i=0;i<n;i++){
+            turnAroundTime[i]=completionTime[i]-arrivalTime[i];
+            waitingTime[i]=turnAroundTime[i]-burstTime[i];
+            totalTAT+=turnAroundTime[i];
+            totalWT+=waitingTime[i];
+        }
+        out.blankLine().text("Pid").sep().text("AT").sep().text("BT").sep().text("Pr").sep().text("CT").sep().text("TAT").sep().text("WT").endRow();
+        for(int i=0;out.writesRows() && i<n;i++){
+            out.text("P").number(processId[i]).sep().number(arrivalTime[i]).sep().number(burstTime[i]).sep().number(priority[i]).sep().number(completionTime[i]).sep().number(turnAroundTime[i]).sep().number(waitingTime[i]).endRow();
+        }
+        out.line("Average turn around time = "+(double)totalTAT/n);
+        out.line("Average Waiting time = "+(double)totalWT/n);
+        out.close();
+    }
+
+    static Workload readInput(Scanner sc){
         System.out.println("Enter number of processes.");
         int n = sc.nextInt();
-        int[] processId=new int[n];
         int[] arrivalTime=new int[n];
         int[] burstTime=new int[n]; 
         int[] priority=new int[n]; 
-        int[] completionTime=new int[n];
-        int[] turnAroundTime=new int[n];
-        int[] waitingTime=new int[n];
-        boolean[] isCompleted = new boolean[n];
         for(int i=0;i<n;i++){
-            processId[i]=i+1;
-            System.out.println("Enter arrival time for p"+processId[i]);
+            System.out.println("Enter arrival time for p"+(i+1));
             arrivalTime[i]=sc.nextInt();
-            System.out.println("Enter burst time for p"+processId[i]);
+            System.out.println("Enter burst time for p"+(i+1));
             burstTime[i]=sc.nextInt();
-            System.out.println("Enter priority for p"+processId[i]);
+            System.out.println("Enter priority for p"+(i+1));
             priority[i]=sc.nextInt();
         }
-        int completed=0,currentTime=0;
-        float totalTAT=0,totalWT=0;
-        while(completed!=n){
-            int currentProcess=-1;
-            int highestPriority=Integer.MAX_VALUE;
-            for(int i = 0;i<n;i++){
-                if(arrivalTime[i] <= currentTime && !isCompleted[i]){
-                    if(priority[i]<highestPriority){
-                        highestPriority=priority[i];
-                        currentProcess=i;
-                    }
-                }
-            }
-            if(currentProcess==-1){
-                currentTime++;
-                continue;
-            }
-            currentTime+=burstTime[currentProcess];
-            completionTime[currentProcess]=currentTime;
-            turnAroundTime[currentProcess]=completionTime[currentProcess]-arrivalTime[currentProcess];
-            waitingTime[currentProcess]=turnAroundTime[currentProcess]-burstTime[currentProcess];
-            isCompleted[currentProcess]=true;
-            totalTAT+=turnAroundTime[currentProcess];
-            totalWT+=waitingTime[currentProcess];
-            completed++;
-        }
-        System.out.println("\nPid\tAT\tBT\tPr\tCT\tTAT\tWT");
-        for(int i=0;i<n;i++){
-            System.out.println("P"+processId[i]+"\t"+arrivalTime[i]+"\t"+burstTime[i]+"\t"+priority[i]+"\t"+completionTime[i]+"\t"+turnAroundTime[i]+"\t"+waitingTime[i]);
-        }
-        System.out.println("Average turn around time = "+totalTAT/n);
-        System.out.println("Average Waiting time = "+totalWT/n);
+        return new Workload(arrivalTime,burstTime,priority);
     }
 }
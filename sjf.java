@@ -4,58 +4,70 @@ Write a program to simulate the Shortest Job First (SJF – Preemptive) CPU sche
 Description:
 This program simulates the SJF Preemptive scheduling algorithm where the CPU is assigned to the process with the shortest remaining burst time at every time unit. Processes with earlier arrival times and smaller burst times are prioritized. The program tracks remaining time for each process, calculates waiting and turnaround times after completion, and prints the results including average waiting and turnaround times.
 */
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 class sjf{
-    public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
+    // With a trace file argument (see TraceFile) the processes are read from it instead of the prompts.
+    public static void main(String[] args) throws IOException {
+        Workload w=args.length>0?TraceFile.read(Paths.get(args[0])):readInput(new Scanner(System.in));
+        TableSink out=TableSink.forStdout();
+        if(!out.writesRows()){
+            // Summary only: completions go straight into the histograms, with no per-process arrays.
+            SchedulingStats stats=new SchedulingStats();
+            GanttRecorder gantt=System.getProperty("gantt.file")!=null?new GanttRecorder():null;
+            SimulationKernel.run(w,new SjfPolicy(),stats,gantt);
+            if(gantt!=null){
+                gantt.write(Paths.get(System.getProperty("gantt.file")),w.processId);
+            }
+            out.line("Average turn around time = "+stats.turnAround.mean());
+            out.line("Average Waiting time = "+stats.waiting.mean());
+            stats.print(out,"SJF");
+            out.close();
+            return;
+        }
+        int n=w.n;
+        int[] processId=w.processId;
+        int[] arrivalTime=w.arrivalTime;
+        int[] burstTime=w.burstTime;
+        int[] completionTime=new int[n];
+        int[] turnAroundTime=new int[n];
+        int[] waitingTime=new int[n];
+        GanttRecorder gantt=new GanttRecorder();
+        SimulationKernel.run(w,new SjfPolicy(),completionTime,gantt);
+        if(System.getProperty("gantt.file")!=null){
+            gantt.write(Paths.get(System.getProperty("gantt.file")),processId);
+        }
+        long totalTAT=0,totalWT=0;
+        for(int i=0;i<n;i++){
+            turnAroundTime[i]=completionTime[i]-arrivalTime[i];
+            waitingTime[i]=turnAroundTime[i]-burstTime[i];
+            totalTAT+=turnAroundTime[i];
+            totalWT+=waitingTime[i];
+        }
+        out.blankLine().caption("Gantt Chart:");
+        gantt.print(out,processId);
+        out.blankLine().text("Pid").sep().text("AT").sep().text("BT").sep().text("CT").sep().text("TAT").sep().text("WT").endRow();
+        for(int i=0;out.writesRows() && i<n;i++){
+            out.text("P").number(processId[i]).sep().number(arrivalTime[i]).sep().number(burstTime[i]).sep().number(completionTime[i]).sep().number(turnAroundTime[i]).sep().number(waitingTime[i]).endRow();
+        }
+        out.line("Average turn around time = "+(double)totalTAT/n);
+        out.line("Average Waiting time = "+(double)totalWT/n);
+        out.close();
+    }
+
+    static Workload readInput(Scanner sc){
         System.out.println("Enter number of processes.");
         int n = sc.nextInt();
-        int[] remainingTime = new int[n];
         int[] arrivalTime=new int[n];
         int[] burstTime=new int[n]; 
-        int[] completionTime=new int[n];
-        int[] turnAroundTime=new int[n];
-        int[] waitingTime=new int[n];
         for(int i=0;i<n;i++){
             
             System.out.println("Enter arrival time for process"+(i+1));
             arrivalTime[i]=sc.nextInt();
             System.out.println("Enter burst time for process"+(i+1));
             burstTime[i]=sc.nextInt();
-            remainingTime[i]=burstTime[i];
-        }
-        int completed=0,currentTime=0;
-        float totalTAT=0,totalWT=0;
-        while(completed!=n){
-            int currentProcess=-1;
-            int minRemaining=Integer.MAX_VALUE;
-            
-            for(int i=0;i<n;i++){
-                if(arrivalTime[i]<=currentTime && remainingTime[i]<minRemaining &&remainingTime[i]>0){
-                    minRemaining=remainingTime[i];
-                    currentProcess=i;
-                }
-            }
-            if(currentProcess==-1){
-                currentTime++;
-                continue;
-            }
-            remainingTime[currentProcess]--;
-            currentTime++;
-            if(remainingTime[currentProcess]==0){
-                completed++;
-                completionTime[currentProcess]=currentTime;
-                turnAroundTime[currentProcess]=completionTime[currentProcess]-arrivalTime[currentProcess];
-                waitingTime[currentProcess]=turnAroundTime[currentProcess]-burstTime[currentProcess];
-                totalTAT+=turnAroundTime[currentProcess];
-                totalWT+=waitingTime[currentProcess];
-            }
-        }
-        System.out.println("\nPid\tAT\tBT\tCT\tTAT\tWT");
-        for(int i=0;i<n;i++){
-            System.out.println("P"+(i+1)+"\t"+arrivalTime[i]+"\t"+burstTime[i]+"\t"+completionTime[i]+"\t"+turnAroundTime[i]+"\t"+waitingTime[i]);
         }
-        System.out.println("Average turn around time = "+totalTAT/n);
-        System.out.println("Average Waiting time = "+totalWT/n);
+        return new Workload(arrivalTime,burstTime,null);
     }
 }